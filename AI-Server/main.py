@@ -156,43 +156,20 @@ def get_backend_base_url() -> str:
     """Backend API 기본 URL (.env BACKEND_URL 또는 기본값)"""
     return os.getenv("BACKEND_URL", "http://localhost:8080").rstrip("/")
 
-def call_backend_estimate(
-    company_id: int,
-    product_id: int,
-    quantity: int,
-    width: Optional[int] = None,
-    height: Optional[int] = None,
-    spec_name: Optional[str] = None,
-    type_name: Optional[str] = None,
-    option_ids: Optional[List[int]] = None,
-) -> Optional[dict]:
+def call_backend_estimate_batch(lines: List[dict]) -> Optional[dict]:
     """
-    Backend POST /api/estimates/calculate 호출하여 견적 계산.
-    성공 시 { productName, unitPrice, optionPrice, quantity, totalPrice } 반환.
+    Backend POST /api/estimates/calculate-batch 호출하여 장바구니 전체를 한 번에 계산.
+    lines: /api/estimates/calculate 요청 본문과 같은 형식의 dict 목록.
+    성공 시 { lines: [{ index, productId, estimate, error }], totalPrice, ... } 반환.
     """
-    url = f"{get_backend_base_url()}/api/estimates/calculate"
-    payload = {
-        "companyId": company_id,
-        "productId": product_id,
-        "quantity": quantity,
-    }
-    if width is not None and width > 0:
-        payload["width"] = width
-    if height is not None and height > 0:
-        payload["height"] = height
-    if spec_name:
-        payload["specName"] = spec_name
-    if type_name:
-        payload["typeName"] = type_name
-    if option_ids:
-        payload["optionIds"] = option_ids
+    url = f"{get_backend_base_url()}/api/estimates/calculate-batch"
     try:
-        r = requests.post(url, json=payload, timeout=10)
+        r = requests.post(url, json=lines, timeout=10)
         if r.status_code == 200:
             return r.json()
         return None
     except Exception as e:
-        print(f"Backend 견적 API 호출 실패: {e}")
+        print(f"Backend 일괄 견적 API 호출 실패: {e}")
         return None
 
 def get_product_price(product_id: int, width: Optional[int] = None, height: Optional[int] = None) -> int:
@@ -399,17 +376,28 @@ def process_user_query(
     # 4. 응답 파싱 및 검증
     result = parse_llm_response(llm_response)
     
-    # 5. 가격 계산: Backend API 우선 호출, 실패 시 DB 직접 조회
+    # 5. 가격 계산: Backend 일괄 견적 API 우선 호출 (한 번의 요청), 실패 항목은 DB 직접 조회
     total_amount = 0
+    batch_lines = []
     for item in result.items:
-        company_id = getattr(item, "company_id", None) or 1
-        resp = call_backend_estimate(
-            company_id=company_id,
-            product_id=item.product_id,
-            quantity=item.quantity,
-            width=item.width if item.width else None,
-            height=item.height if item.height else None,
-        )
+        line = {
+            "companyId": getattr(item, "company_id", None) or 1,
+            "productId": item.product_id,
+            "quantity": item.quantity,
+        }
+        if item.width and item.width > 0:
+            line["width"] = item.width
+        if item.height and item.height > 0:
+            line["height"] = item.height
+        batch_lines.append(line)
+    batch = call_backend_estimate_batch(batch_lines) if batch_lines else None
+    batch_results = {}
+    if batch:
+        for line in batch.get("lines", []):
+            batch_results[line.get("index")] = line.get("estimate")
+
+    for idx, item in enumerate(result.items):
+        resp = batch_results.get(idx)
         if resp and "unitPrice" in resp and "totalPrice" in resp:
             item.unit_price = resp.get("unitPrice", 0)
             item.total_price = resp.get("totalPrice", 0)
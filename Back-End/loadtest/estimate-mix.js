@@ -0,0 +1,57 @@
+// 가상 스레드 모드 비교용 k6 부하 시나리오
+// 실행: k6 run -e BASE_URL=http://localhost:8080 -e PRODUCT_ID=1 -e COMPANY_ID=1 -e VUS=200 loadtest/estimate-mix.js
+// 요청 비율: 견적 계산 60%, 카탈로그 20%, 일괄 견적(100건) 10%, 견적서 PDF(20건) 10%
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const PRODUCT_ID = Number(__ENV.PRODUCT_ID || 1);
+const COMPANY_ID = Number(__ENV.COMPANY_ID || 1);
+const JSON_HEADERS = { headers: { 'Content-Type': 'application/json' } };
+
+export const options = {
+  scenarios: {
+    mix: {
+      executor: 'ramping-vus',
+      stages: [
+        { duration: '30s', target: Number(__ENV.VUS || 200) },
+        { duration: __ENV.DURATION || '2m', target: Number(__ENV.VUS || 200) },
+        { duration: '10s', target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+function estimate(width) {
+  return { productId: PRODUCT_ID, width, height: 2100, quantity: 1, specName: '110바', typeName: '일반형 3방' };
+}
+
+function pdfItem(i) {
+  return {
+    productName: '문틀 110바', categoryName: '문틀', specName: '110바', typeName: '일반형 3방',
+    width: '900', height: '2100', unitPrice: 50000 + i, optionPrice: 0, selectedOptions: [],
+    quantity: 1, baseTotal: 50000 + i, margin: '10', marginAmount: 5000, finalTotal: 55000 + i,
+  };
+}
+
+export default function () {
+  const r = Math.random();
+  let res;
+  if (r < 0.6) {
+    res = http.post(`${BASE_URL}/api/estimates/calculate`,
+      JSON.stringify(estimate(800 + Math.floor(Math.random() * 2200))), JSON_HEADERS);
+  } else if (r < 0.8) {
+    res = http.get(`${BASE_URL}/api/catalog?companyId=${COMPANY_ID}`, { headers: { 'Accept-Encoding': 'gzip' } });
+  } else if (r < 0.9) {
+    const lines = Array.from({ length: 100 }, (_, i) => estimate(800 + i * 20));
+    res = http.post(`${BASE_URL}/api/estimates/calculate-batch`, JSON.stringify(lines), JSON_HEADERS);
+  } else {
+    const items = Array.from({ length: 20 }, (_, i) => pdfItem(i));
+    res = http.post(`${BASE_URL}/api/estimates/export-pdf`, JSON.stringify({
+      companyName: '동서', dateStr: '2026-01-01', items, baseTotal: 1000000, totalMargin: 100000,
+      marginPercent: '10', totalPrice: 1100000,
+    }), JSON_HEADERS);
+  }
+  check(res, { '2xx': (x) => x.status >= 200 && x.status < 300 });
+}
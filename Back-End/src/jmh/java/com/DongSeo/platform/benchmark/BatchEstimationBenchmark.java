@@ -0,0 +1,65 @@
+package com.DongSeo.platform.benchmark;
+
+import com.DongSeo.platform.dto.EstimateBatchResponse;
+import com.DongSeo.platform.dto.EstimateRequest;
+import com.DongSeo.platform.service.BatchPricingExecutor;
+import com.DongSeo.platform.service.EstimationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EstimationService.calculateBatch 실행 모드별 측정 (호출 스레드 순차 vs 가상 스레드 chunk 분할)
+ *
+ * lines: 장바구니 항목 수. chunkSize 이하이면 두 모드 모두 호출 스레드에서 계산한다.
+ * 견적 캐시는 끄고(0) 매번 계산 경로를 타게 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class BatchEstimationBenchmark {
+
+    private static final int[] WIDTHS = {850, 1180, 1430, 1760, 2050, 2390, 2610, 2990};
+
+    @Param({"false", "true"})
+    public boolean virtualThreads;
+
+    @Param({"20", "200", "2000"})
+    public int lines;
+
+    @Param({"50"})
+    public int chunkSize;
+
+    private BatchPricingExecutor batchPricingExecutor;
+    private EstimationService estimationService;
+    private List<EstimateRequest> requests;
+
+    @Setup
+    public void setup() {
+        batchPricingExecutor = new BatchPricingExecutor(virtualThreads, chunkSize, Integer.MAX_VALUE);
+        estimationService = new InMemoryPricingStack(300, 0, batchPricingExecutor).estimationService();
+
+        requests = new ArrayList<>(lines);
+        for (int i = 0; i < lines; i++) {
+            EstimateRequest request = new EstimateRequest();
+            request.setQuantity(1);
+            request.setWidth(WIDTHS[i % WIDTHS.length]);
+            request.setHeight(2100);
+            request.setProductId(CatalogFixtures.firstProductId(1));
+            request.setOptionIds(List.of(2L));
+            requests.add(request);
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        batchPricingExecutor.shutdown();
+    }
+
+    @Benchmark
+    public EstimateBatchResponse calculateBatch() {
+        return estimationService.calculateBatch(requests);
+    }
+}
@@ -0,0 +1,91 @@
+package com.DongSeo.platform.benchmark;
+
+import com.DongSeo.platform.service.calculator.BasicCalculator;
+import com.DongSeo.platform.service.calculator.CalculatorDispatcher;
+import com.DongSeo.platform.service.calculator.CalculatorRules;
+import com.DongSeo.platform.service.calculator.MatrixCalculator;
+import com.DongSeo.platform.service.calculator.PriceCalculator;
+import com.DongSeo.platform.service.calculator.VariantCalculator;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogRefreshedEvent;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 계산기 선택 비교: 기존 selectCalculator (요청마다 stream/instanceof/문자열 검사) vs 디스패치 테이블
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class CalculatorDispatchBenchmark {
+
+    @Param({"300"})
+    public int productCount;
+
+    private CatalogSnapshot catalog;
+    private CatalogProduct[] products;
+    private List<PriceCalculator> calculators;
+    private CalculatorDispatcher dispatcher;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        catalog = CatalogFixtures.catalog(productCount);
+        products = catalog.products().toArray(new CatalogProduct[0]);
+
+        BasicCalculator basic = new BasicCalculator();
+        MatrixCalculator matrix = new MatrixCalculator();
+        VariantCalculator variant = new VariantCalculator();
+        calculators = List.of(basic, matrix, variant);
+
+        CalculatorRules rules = new CalculatorRules();
+        dispatcher = new CalculatorDispatcher(List.of(
+                rules.gansalWindowRule(matrix),
+                rules.windowWithBasePriceRule(basic),
+                rules.woodInterlockRule(variant),
+                rules.categoryCodeRule(calculators)));
+        dispatcher.onCatalogRefreshed(new CatalogRefreshedEvent(catalog));
+    }
+
+    private CatalogProduct nextProduct() {
+        CatalogProduct p = products[cursor];
+        cursor = (cursor + 1) % products.length;
+        return p;
+    }
+
+    @Benchmark
+    public PriceCalculator legacySelectCalculator() {
+        CatalogProduct product = nextProduct();
+        return legacySelect(product, catalog.categoryCode(product), catalog.parentCategoryCode(product));
+    }
+
+    @Benchmark
+    public PriceCalculator dispatchTable() {
+        return dispatcher.resolve(catalog, nextProduct());
+    }
+
+    /**
+     * 변경 전 EstimationService.selectCalculator 로직 그대로
+     */
+    private PriceCalculator legacySelect(CatalogProduct product, String categoryCode, String parentCode) {
+        if (("WINDOW".equals(categoryCode) || "WINDOW".equals(parentCode))
+                && product.name() != null && product.name().contains("간살")) {
+            return calculators.stream().filter(c -> c instanceof MatrixCalculator).findFirst().orElseThrow();
+        }
+        if (("WINDOW".equals(categoryCode) || "WINDOW".equals(parentCode))
+                && product.basePrice() != null && product.basePrice() > 0) {
+            return calculators.stream().filter(c -> c instanceof BasicCalculator).findFirst().orElseThrow();
+        }
+        if (("INTERLOCK".equals(categoryCode) || "INTERLOCK".equals(parentCode))
+                && product.name() != null && product.name().contains("목재 3연동 중문")) {
+            return calculators.stream().filter(c -> c instanceof VariantCalculator).findFirst().orElseThrow();
+        }
+        return calculators.stream()
+                .filter(c -> c.supports(categoryCode) || (parentCode != null && c.supports(parentCode)))
+                .findFirst()
+                .orElseThrow();
+    }
+}
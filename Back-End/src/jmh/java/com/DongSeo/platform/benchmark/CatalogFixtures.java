@@ -0,0 +1,144 @@
+package com.DongSeo.platform.benchmark;
+
+import com.DongSeo.platform.service.catalog.CatalogCategory;
+import com.DongSeo.platform.service.catalog.CatalogCompany;
+import com.DongSeo.platform.service.catalog.CatalogMatrixRow;
+import com.DongSeo.platform.service.catalog.CatalogOption;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.catalog.CatalogVariant;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크용 카탈로그 (DB 없이 실제 데이터와 비슷한 구성)
+ *
+ * 제품 id % 7 로 종류를 나눈다.
+ * 0: 도어(base_price), 1: 간살 목창호(매트릭스), 2: 일반 목창호(base_price), 3: 목재 3연동 중문(규격),
+ * 4: 중문(매트릭스), 5: 문틀(규격), 6: 목재문틀(才 계산)
+ */
+public final class CatalogFixtures {
+
+    public static final long COMPANY_ID = 1L;
+    public static final String WINDOW_OPTION = "미닫이 (80바)";
+    public static final String INTERLOCK_OPTION = "기본 세트";
+    public static final int[] WIDTH_BANDS = {900, 1200, 1500, 1800, 2100, 2400, 2700, 3000};
+
+    private static final long DOOR = 1L, WINDOW = 2L, INTERLOCK = 3L, FRAME = 4L, WINDOW_SUB = 5L, FRAME_SUB = 6L;
+
+    private CatalogFixtures() {
+    }
+
+    public static CatalogSnapshot catalog(int productCount) {
+        return data(productCount).snapshot(1L);
+    }
+
+    /**
+     * 스냅샷을 만들기 전의 행 목록 (DB 조회 결과에 해당)
+     */
+    public static Data data(int productCount) {
+        List<CatalogCategory> categories = List.of(
+                new CatalogCategory(DOOR, COMPANY_ID, null, "도어", "DOOR"),
+                new CatalogCategory(WINDOW, COMPANY_ID, null, "목창호", "WINDOW"),
+                new CatalogCategory(INTERLOCK, COMPANY_ID, null, "중문", "INTERLOCK"),
+                new CatalogCategory(FRAME, COMPANY_ID, null, "문틀", "FRAME"),
+                new CatalogCategory(WINDOW_SUB, COMPANY_ID, WINDOW, "간살창", "WINDOW_GANSAL"),
+                new CatalogCategory(FRAME_SUB, COMPANY_ID, FRAME, "목재문틀", "FRAME_WOOD")
+        );
+
+        List<CatalogProduct> products = new ArrayList<>();
+        List<CatalogVariant> variants = new ArrayList<>();
+        List<CatalogMatrixRow> matrixRows = new ArrayList<>();
+        long variantId = 1;
+        long matrixId = 1;
+
+        for (long id = 1; id <= productCount; id++) {
+            switch ((int) (id % 7)) {
+                case 0 -> products.add(product(id, DOOR, "ABS 도어 " + id, 180000));
+                case 1 -> {
+                    products.add(product(id, WINDOW_SUB, "간살 목창호 " + id, 0));
+                    matrixId = addMatrix(matrixRows, matrixId, id, WINDOW_OPTION);
+                }
+                case 2 -> products.add(product(id, WINDOW, "목창호 " + id, 250000));
+                case 3 -> {
+                    products.add(product(id, INTERLOCK, "목재 3연동 중문 " + id, 0));
+                    variantId = addVariants(variants, variantId, id);
+                }
+                case 4 -> {
+                    products.add(product(id, INTERLOCK, "슬림 3연동 중문 " + id, 0));
+                    matrixId = addMatrix(matrixRows, matrixId, id, INTERLOCK_OPTION);
+                }
+                case 5 -> {
+                    products.add(product(id, FRAME, "PVC 발포문틀 " + id, 0));
+                    variantId = addVariants(variants, variantId, id);
+                }
+                default -> {
+                    products.add(product(id, FRAME_SUB, "목재문틀 " + id, 0));
+                    variantId = addVariants(variants, variantId, id);
+                }
+            }
+        }
+
+        List<CatalogOption> options = List.of(
+                new CatalogOption(1L, COMPANY_ID, DOOR, null, "도어 손잡이", 15000),
+                new CatalogOption(2L, COMPANY_ID, WINDOW, null, "방충망", 30000),
+                new CatalogOption(3L, COMPANY_ID, INTERLOCK, null, "유리 추가", 50000),
+                new CatalogOption(4L, COMPANY_ID, null, null, "현장 설치", 70000)
+        );
+
+        return new Data(List.of(new CatalogCompany(COMPANY_ID, "쉐누", "CHENOUS")),
+                categories, products, variants, matrixRows, options);
+    }
+
+    /**
+     * 제품 id로 종류를 정할 때 사용할 첫 번째 id (id % 7 == remainder)
+     */
+    public static long firstProductId(int remainder) {
+        return remainder == 0 ? 7L : remainder;
+    }
+
+    private static CatalogProduct product(long id, long categoryId, String name, int basePrice) {
+        return new CatalogProduct(id, COMPANY_ID, categoryId, name, basePrice, null, null);
+    }
+
+    private static long addMatrix(List<CatalogMatrixRow> rows, long nextId, long productId, String optionName) {
+        for (int i = 0; i < WIDTH_BANDS.length; i++) {
+            rows.add(new CatalogMatrixRow(nextId++, productId, optionName, WIDTH_BANDS[i], 99999, 300000 + i * 40000));
+        }
+        return nextId;
+    }
+
+    private static long addVariants(List<CatalogVariant> variants, long nextId, long productId) {
+        for (String spec : new String[]{"110바", "130바", "150바"}) {
+            for (String type : new String[]{"일반형 3방", "일반형 4방"}) {
+                variants.add(new CatalogVariant(nextId++, productId, spec, type, 40000 + (int) (nextId % 10) * 1000, null));
+            }
+        }
+        return nextId;
+    }
+
+    public record Data(List<CatalogCompany> companies,
+                       List<CatalogCategory> categories,
+                       List<CatalogProduct> products,
+                       List<CatalogVariant> variants,
+                       List<CatalogMatrixRow> matrixRows,
+                       List<CatalogOption> options) {
+
+        public CatalogSnapshot snapshot(long version) {
+            return CatalogSnapshot.of(version, companies, categories, products, variants, matrixRows, options);
+        }
+
+        public CatalogProduct product(Long productId) {
+            return products.stream().filter(p -> p.id().equals(productId)).findFirst().orElse(null);
+        }
+
+        public List<CatalogVariant> variants(Long productId) {
+            return variants.stream().filter(v -> v.productId().equals(productId)).toList();
+        }
+
+        public List<CatalogMatrixRow> matrixRows(Long productId) {
+            return matrixRows.stream().filter(m -> m.productId().equals(productId)).toList();
+        }
+    }
+}
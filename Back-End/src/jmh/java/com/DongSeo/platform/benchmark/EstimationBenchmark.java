@@ -0,0 +1,84 @@
+package com.DongSeo.platform.benchmark;
+
+import com.DongSeo.platform.dto.EstimateRequest;
+import com.DongSeo.platform.dto.EstimateResponse;
+import com.DongSeo.platform.service.EstimationService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EstimationService.calculate 계산기별 측정
+ *
+ * kind: BASIC(도어 base_price), MATRIX(간살 목창호 매트릭스), VARIANT(PVC 문틀 규격), WOOD_FRAME(목재문틀 才 계산)
+ * quoteCacheSize: 0이면 견적 캐시에 남지 않아 매번 계산 경로를 탄다.
+ * 가로폭은 요청마다 바꿔 매트릭스 구간 조회와 캐시 키 정규화가 함께 측정되도록 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class EstimationBenchmark {
+
+    public enum Kind { BASIC, MATRIX, VARIANT, WOOD_FRAME }
+
+    private static final int[] WIDTHS = {850, 1180, 1430, 1760, 2050, 2390, 2610, 2990};
+
+    @Param({"BASIC", "MATRIX", "VARIANT", "WOOD_FRAME"})
+    public Kind kind;
+
+    @Param({"0", "10000"})
+    public long quoteCacheSize;
+
+    @Param({"300"})
+    public int productCount;
+
+    private EstimationService estimationService;
+    private EstimateRequest[] requests;
+    private int cursor;
+
+    @Setup
+    public void setup() {
+        estimationService = new InMemoryPricingStack(productCount, quoteCacheSize).estimationService();
+
+        requests = new EstimateRequest[WIDTHS.length];
+        for (int i = 0; i < WIDTHS.length; i++) {
+            requests[i] = request(WIDTHS[i]);
+        }
+    }
+
+    private EstimateRequest request(int width) {
+        EstimateRequest request = new EstimateRequest();
+        request.setQuantity(2);
+        request.setWidth(width);
+        request.setHeight(2100);
+        switch (kind) {
+            case BASIC -> {
+                request.setProductId(CatalogFixtures.firstProductId(0));
+                request.setOptionIds(List.of(4L, 1L));
+            }
+            case MATRIX -> {
+                request.setProductId(CatalogFixtures.firstProductId(1));
+                request.setOptionIds(List.of(2L));
+            }
+            case VARIANT -> {
+                request.setProductId(CatalogFixtures.firstProductId(5));
+                request.setSpecName("130바");
+                request.setTypeName("일반형 4방");
+            }
+            case WOOD_FRAME -> {
+                request.setProductId(CatalogFixtures.firstProductId(6));
+                request.setSpecName("110바");
+                request.setTypeName("일반형 3방");
+            }
+        }
+        return request;
+    }
+
+    @Benchmark
+    public EstimateResponse calculate() {
+        EstimateRequest request = requests[cursor];
+        cursor = (cursor + 1) % requests.length;
+        return estimationService.calculate(request);
+    }
+}
@@ -0,0 +1,116 @@
+package com.DongSeo.platform.benchmark;
+
+import com.DongSeo.platform.service.BatchPricingExecutor;
+import com.DongSeo.platform.service.EstimationService;
+import com.DongSeo.platform.service.QuoteCache;
+import com.DongSeo.platform.service.calculator.BasicCalculator;
+import com.DongSeo.platform.service.calculator.CalculatorDispatcher;
+import com.DongSeo.platform.service.calculator.CalculatorRules;
+import com.DongSeo.platform.service.calculator.MatrixCalculator;
+import com.DongSeo.platform.service.calculator.VariantCalculator;
+import com.DongSeo.platform.service.catalog.CatalogRefreshedEvent;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.catalog.CatalogSnapshotLoader;
+import com.DongSeo.platform.service.catalog.PricingCatalog;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * MySQL 없이 견적 계산 전체 경로(PricingCatalog → CalculatorDispatcher → QuoteCache → EstimationService)를 조립
+ *
+ * 견적 계산은 DB를 직접 조회하지 않고 CatalogSnapshotLoader가 읽어 둔 스냅샷만 사용하므로,
+ * 리포지토리 대신 로더를 CatalogFixtures 기반의 메모리 구현으로 바꿔 끼운다.
+ * 스프링 컨텍스트 없이 이벤트는 직접 전달한다.
+ */
+public final class InMemoryPricingStack {
+
+    private final PricingCatalog pricingCatalog;
+    private final EstimationService estimationService;
+
+    public InMemoryPricingStack(int productCount, long quoteCacheSize) {
+        this(productCount, quoteCacheSize, new BatchPricingExecutor(false, 50, Integer.MAX_VALUE));
+    }
+
+    public InMemoryPricingStack(int productCount, long quoteCacheSize, BatchPricingExecutor batchPricingExecutor) {
+        CatalogFixtures.Data data = CatalogFixtures.data(productCount);
+
+        BasicCalculator basic = new BasicCalculator();
+        MatrixCalculator matrix = new MatrixCalculator();
+        VariantCalculator variant = new VariantCalculator();
+        CalculatorRules rules = new CalculatorRules();
+        CalculatorDispatcher dispatcher = new CalculatorDispatcher(List.of(
+                rules.gansalWindowRule(matrix),
+                rules.windowWithBasePriceRule(basic),
+                rules.woodInterlockRule(variant),
+                rules.categoryCodeRule(List.of(basic, matrix, variant))));
+        QuoteCache quoteCache = new QuoteCache(new SimpleMeterRegistry(), quoteCacheSize, Duration.ofMinutes(10));
+
+        this.pricingCatalog = new PricingCatalog(new InMemoryCatalogLoader(data), new NoOpTransactionManager(),
+                event -> {
+                    if (event instanceof CatalogRefreshedEvent refreshed) {
+                        dispatcher.onCatalogRefreshed(refreshed);
+                        quoteCache.onCatalogRefreshed(refreshed);
+                    }
+                });
+        this.pricingCatalog.afterSingletonsInstantiated();
+        this.estimationService = new EstimationService(pricingCatalog, dispatcher, quoteCache,
+                new SimpleMeterRegistry(), batchPricingExecutor);
+    }
+
+    public PricingCatalog pricingCatalog() {
+        return pricingCatalog;
+    }
+
+    public EstimationService estimationService() {
+        return estimationService;
+    }
+
+    /**
+     * 리포지토리 대신 고정 데이터로 스냅샷을 만드는 로더
+     */
+    private static final class InMemoryCatalogLoader extends CatalogSnapshotLoader {
+
+        private final CatalogFixtures.Data data;
+
+        InMemoryCatalogLoader(CatalogFixtures.Data data) {
+            super(null, null, null, null, null, null);
+            this.data = data;
+        }
+
+        @Override
+        public CatalogSnapshot load(long version) {
+            return data.snapshot(version);
+        }
+
+        @Override
+        public CatalogSnapshot loadProduct(CatalogSnapshot previous, long version, Long productId) {
+            return previous.withProduct(version, productId, data.product(productId),
+                    data.variants(productId), data.matrixRows(productId));
+        }
+    }
+
+    /**
+     * 트랜잭션이 필요 없는 메모리 로더용
+     */
+    private static final class NoOpTransactionManager implements PlatformTransactionManager {
+
+        @Override
+        public TransactionStatus getTransaction(TransactionDefinition definition) {
+            return new SimpleTransactionStatus();
+        }
+
+        @Override
+        public void commit(TransactionStatus status) {
+        }
+
+        @Override
+        public void rollback(TransactionStatus status) {
+        }
+    }
+}
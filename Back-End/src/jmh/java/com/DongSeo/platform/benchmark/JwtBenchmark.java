@@ -0,0 +1,73 @@
+package com.DongSeo.platform.benchmark;
+
+import com.DongSeo.platform.jwt.JwtFilter;
+import com.DongSeo.platform.jwt.JwtUtil;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 경로 측정: JwtUtil.validateToken, JwtFilter (관리자 API 요청 한 건 기준)
+ *
+ * 필터는 doFilterInternal을 직접 부르지 않고 OncePerRequestFilter.doFilter로 실제 서블릿 체인과 같은 경로를 탄다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class JwtBenchmark {
+
+    /** application.yml 기본값과 같은 테스트용 키 */
+    private static final String SECRET = "MTIzNDU2Nzg5MDEyMzQ1Njc4OTAxMjM0NTY3ODkwMTI=";
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtUtil jwtUtil;
+    private JwtFilter jwtFilter;
+    private String validToken;
+    private String tamperedToken;
+    private MockHttpServletRequest adminRequest;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setup() throws Exception {
+        jwtUtil = new JwtUtil();
+        Field secretKey = JwtUtil.class.getDeclaredField("secretKey");
+        secretKey.setAccessible(true);
+        secretKey.set(jwtUtil, SECRET);
+        jwtUtil.init();
+        jwtFilter = new JwtFilter(jwtUtil, new SimpleMeterRegistry());
+
+        validToken = jwtUtil.createToken("admin", "ADMIN", TimeUnit.HOURS.toMillis(1));
+        // 서명 마지막 글자만 바꾼 토큰 (서명 검증 실패 경로)
+        char last = validToken.charAt(validToken.length() - 1);
+        tamperedToken = validToken.substring(0, validToken.length() - 1) + (last == 'A' ? 'B' : 'A');
+
+        adminRequest = new MockHttpServletRequest("GET", "/api/admin/products");
+        adminRequest.addHeader("Authorization", "Bearer " + validToken);
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(validToken);
+    }
+
+    @Benchmark
+    public boolean validateTamperedToken() {
+        return jwtUtil.validateToken(tamperedToken);
+    }
+
+    @Benchmark
+    public Object filterAuthenticatedRequest() throws Exception {
+        jwtFilter.doFilter(adminRequest, response, NO_OP_CHAIN);
+        Object principal = SecurityContextHolder.getContext().getAuthentication().getPrincipal();
+        SecurityContextHolder.clearContext();
+        return principal;
+    }
+}
@@ -0,0 +1,87 @@
+package com.DongSeo.platform.benchmark;
+
+import com.DongSeo.platform.dto.EstimatePdfItemDto;
+import com.DongSeo.platform.dto.EstimatePdfRequest;
+import com.DongSeo.platform.service.EstimatePdfService;
+import com.DongSeo.platform.util.KoreanFontResolver;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 견적서 PDF 생성 측정 (장바구니 1 / 20 / 200개)
+ *
+ * 폰트는 KoreanFontResolver 규칙 그대로 찾는다. (PDF_FONT_PATH 환경변수 → fonts-nanum → classpath)
+ * 실행 환경에 한글 폰트가 없으면 Setup에서 실패한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class PdfBenchmark {
+
+    @Param({"1", "20", "200"})
+    public int itemCount;
+
+    private EstimatePdfService pdfService;
+    private EstimatePdfRequest request;
+
+    @Setup
+    public void setup() throws IOException {
+        KoreanFontResolver fontResolver = new KoreanFontResolver();
+        fontResolver.getKoreanFontFile();
+        pdfService = new EstimatePdfService(fontResolver, new SimpleMeterRegistry());
+
+        List<EstimatePdfItemDto> items = new ArrayList<>(itemCount);
+        long baseTotal = 0;
+        for (int i = 0; i < itemCount; i++) {
+            EstimatePdfItemDto item = item(i);
+            baseTotal += item.getBaseTotal();
+            items.add(item);
+        }
+        long margin = baseTotal / 10;
+        request = EstimatePdfRequest.builder()
+                .companyName("쉐누 (CHENOUS)")
+                .dateStr("2026-01-01")
+                .items(items)
+                .baseTotal(baseTotal)
+                .totalMargin(margin)
+                .marginPercent("10")
+                .totalPrice(baseTotal + margin)
+                .build();
+    }
+
+    private static EstimatePdfItemDto item(int i) {
+        int unitPrice = 300000 + (i % 8) * 40000;
+        int optionPrice = i % 3 == 0 ? 30000 : 0;
+        int quantity = 1 + i % 4;
+        long baseTotal = (long) (unitPrice + optionPrice) * quantity;
+        return EstimatePdfItemDto.builder()
+                .productName("간살 목창호 " + i)
+                .categoryName("목창호")
+                .subCategoryName("간살창")
+                .specName("110바")
+                .typeName("미닫이 (80바)")
+                .width(String.valueOf(CatalogFixtures.WIDTH_BANDS[i % CatalogFixtures.WIDTH_BANDS.length] - 50))
+                .height("2100")
+                .selectedColorName("화이트")
+                .selectedColorCode("W01")
+                .unitPrice(unitPrice)
+                .optionPrice(optionPrice)
+                .selectedOptions(optionPrice > 0 ? List.of("방충망") : List.of())
+                .quantity(quantity)
+                .baseTotal(baseTotal)
+                .margin("10")
+                .marginAmount(baseTotal / 10)
+                .finalTotal(baseTotal + baseTotal / 10)
+                .build();
+    }
+
+    @Benchmark
+    public byte[] generatePdf() throws IOException {
+        return pdfService.generatePdf(request);
+    }
+}
@@ -0,0 +1,110 @@
+package com.DongSeo.platform.benchmark;
+
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.search.ProductSearchIndex;
+import org.openjdk.jmh.annotations.*;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 제품 검색 비교: 메모리 검색 인덱스 vs 기존 LIKE 검색
+ *
+ * 기존 searchForAdmin은 LOWER(name) LIKE '%kw%' OR LOWER(description) LIKE '%kw%' 로 매 요청 전체 행을 검사했다.
+ * - h2LikeQuery: 같은 WHERE 절을 내장 H2(MySQL 모드, 메모리 DB)에서 실행. 네트워크 왕복과 엔티티 매핑은 빠져 있으므로
+ *   운영 MySQL 경로보다 빠르게 나온다.
+ * - inMemoryContainsScan: 같은 조건을 자바 배열에서 String.contains로 검사. SQL이 아니며, LIKE 전체 스캔의 하한 참고용이다.
+ * 초성 검색어는 기존 경로에서 결과가 없다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProductSearchBenchmark {
+
+    @Param({"300", "5000"})
+    public int productCount;
+
+    @Param({"목재", "ㅁㅈㅁㅌ", "도어 12"})
+    public String keyword;
+
+    private ProductSearchIndex index;
+    private CatalogProduct[] products;
+    private Connection connection;
+    private PreparedStatement likeQuery;
+
+    @Setup
+    public void setup() throws SQLException {
+        InMemoryPricingStack stack = new InMemoryPricingStack(productCount, 0);
+        CatalogSnapshot catalog = stack.pricingCatalog().current();
+        products = catalog.products().toArray(new CatalogProduct[0]);
+        index = new ProductSearchIndex(stack.pricingCatalog());
+        index.search("", null, null);
+
+        connection = DriverManager.getConnection("jdbc:h2:mem:product-search;MODE=MySQL", "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE products (id BIGINT PRIMARY KEY, company_id BIGINT, name VARCHAR(255), description TEXT)");
+        }
+        try (PreparedStatement insert = connection.prepareStatement("INSERT INTO products VALUES (?, ?, ?, ?)")) {
+            for (CatalogProduct p : products) {
+                insert.setLong(1, p.id());
+                insert.setLong(2, p.companyId());
+                insert.setString(3, p.name());
+                insert.setString(4, p.description());
+                insert.addBatch();
+            }
+            insert.executeBatch();
+        }
+        likeQuery = connection.prepareStatement("SELECT id FROM products WHERE company_id = ? AND "
+                + "(LOWER(name) LIKE LOWER(CONCAT('%', ?, '%')) "
+                + "OR (description IS NOT NULL AND LOWER(description) LIKE LOWER(CONCAT('%', ?, '%')))) ORDER BY id");
+    }
+
+    @TearDown
+    public void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    @Benchmark
+    public List<Long> searchIndex() {
+        return index.search(keyword, CatalogFixtures.COMPANY_ID, null);
+    }
+
+    @Benchmark
+    public List<Long> h2LikeQuery() throws SQLException {
+        likeQuery.setLong(1, CatalogFixtures.COMPANY_ID);
+        likeQuery.setString(2, keyword);
+        likeQuery.setString(3, keyword);
+        List<Long> ids = new ArrayList<>();
+        try (ResultSet rs = likeQuery.executeQuery()) {
+            while (rs.next()) {
+                ids.add(rs.getLong(1));
+            }
+        }
+        return ids;
+    }
+
+    @Benchmark
+    public List<Long> inMemoryContainsScan() {
+        String kw = keyword.toLowerCase(Locale.ROOT);
+        List<Long> ids = new ArrayList<>();
+        for (CatalogProduct p : products) {
+            if (p.companyId() != CatalogFixtures.COMPANY_ID) {
+                continue;
+            }
+            if (p.name().toLowerCase(Locale.ROOT).contains(kw)
+                    || (p.description() != null && p.description().toLowerCase(Locale.ROOT).contains(kw))) {
+                ids.add(p.id());
+            }
+        }
+        return ids;
+    }
+}
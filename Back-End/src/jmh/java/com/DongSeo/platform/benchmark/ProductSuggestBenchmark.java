@@ -0,0 +1,43 @@
+package com.DongSeo.platform.benchmark;
+
+import com.DongSeo.platform.service.search.ProductSuggester;
+import com.DongSeo.platform.service.search.SuggestionTrie;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 검색창 자동완성 조회 비용 (트라이는 setup에서 만들어 두고 조회만 측정)
+ * 한 글자 접두어처럼 후보가 많은 경우도 노드에 미리 저장한 상위 목록을 돌려주므로 제품 수와 무관해야 한다.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ProductSuggestBenchmark {
+
+    @Param({"300", "5000"})
+    public int productCount;
+
+    @Param({"목", "목재무", "ㅁㅈ", "12"})
+    public String prefix;
+
+    private ProductSuggester suggester;
+
+    @Setup
+    public void setup() {
+        InMemoryPricingStack stack = new InMemoryPricingStack(productCount, 0);
+        suggester = new ProductSuggester(stack.pricingCatalog());
+        suggester.suggest("", null, 1);
+    }
+
+    @TearDown
+    public void tearDown() {
+        suggester.shutdown();
+    }
+
+    @Benchmark
+    public List<SuggestionTrie.Suggestion> suggest() {
+        return suggester.suggest(prefix, CatalogFixtures.COMPANY_ID, 10);
+    }
+}
@@ -0,0 +1,41 @@
+package com.DongSeo.platform.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.function.ToLongFunction;
+
+/**
+ * Hibernate 2차 캐시 / 쿼리 캐시 적중률 지표
+ *
+ * 영역(region)별 요청 수(hibernate.second.level.cache.requests, hibernate.query.cache.requests)는
+ * hibernate-micrometer가 등록하고, 여기서는 전체 적중률만 hibernate.cache.hit.ratio{cache=second-level|query}로 추가한다.
+ * generate_statistics가 꺼져 있으면 값은 0이다.
+ */
+@Component
+public class HibernateCacheMetrics {
+
+    public HibernateCacheMetrics(EntityManagerFactory entityManagerFactory, MeterRegistry meterRegistry) {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        register(meterRegistry, statistics, "second-level",
+                Statistics::getSecondLevelCacheHitCount, Statistics::getSecondLevelCacheMissCount);
+        register(meterRegistry, statistics, "query",
+                Statistics::getQueryCacheHitCount, Statistics::getQueryCacheMissCount);
+    }
+
+    private static void register(MeterRegistry meterRegistry, Statistics statistics, String cache,
+                                 ToLongFunction<Statistics> hits, ToLongFunction<Statistics> misses) {
+        Gauge.builder("hibernate.cache.hit.ratio", statistics, s -> {
+                    long hit = hits.applyAsLong(s);
+                    long total = hit + misses.applyAsLong(s);
+                    return total == 0 ? 0.0 : (double) hit / total;
+                })
+                .tag("cache", cache)
+                .description("Hibernate 캐시 적중률 (기동 이후 누적)")
+                .register(meterRegistry);
+    }
+}
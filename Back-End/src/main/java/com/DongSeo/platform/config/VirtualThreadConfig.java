@@ -0,0 +1,71 @@
+package com.DongSeo.platform.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * 가상 스레드 모드 (spring.threads.virtual.enabled=true, VIRTUAL_THREADS=true)
+ *
+ * Tomcat 요청 처리(견적서 PDF 생성 포함)는 Spring Boot가 가상 스레드로 바꾸고, 일괄 견적은 BatchPricingExecutor가 나눠 계산한다.
+ * 여기서는 JDBC 동시 사용 수를 Hikari 풀 크기로 제한한다. (ConnectionLimitingDataSource)
+ * 대기 현황은 jdbc.connections.permits{state=available|queued} 지표로 남긴다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    log.info("JDBC 동시 사용 제한: permits={}, timeout={}ms",
+                            hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+                    return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(),
+                            hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionPermitMetrics(DataSource dataSource) {
+        return registry -> {
+            ConnectionLimitingDataSource limited = unwrap(dataSource);
+            if (limited == null) {
+                return;
+            }
+            Gauge.builder("jdbc.connections.permits", limited, ConnectionLimitingDataSource::availablePermits)
+                    .description("남은 JDBC 허가 수")
+                    .tag("state", "available")
+                    .register(registry);
+            Gauge.builder("jdbc.connections.permits", limited, ConnectionLimitingDataSource::queuedThreads)
+                    .description("JDBC 허가를 기다리는 스레드 수")
+                    .tag("state", "queued")
+                    .register(registry);
+        };
+    }
+
+    private static ConnectionLimitingDataSource unwrap(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConnectionLimitingDataSource.class)
+                    ? dataSource.unwrap(ConnectionLimitingDataSource.class)
+                    : null;
+        } catch (SQLException e) {
+            return null;
+        }
+    }
+}
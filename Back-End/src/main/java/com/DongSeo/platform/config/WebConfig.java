@@ -1,6 +1,10 @@
 package com.DongSeo.platform.config;
 
+import com.DongSeo.platform.config.datasource.PrimaryPinningInterceptor;
+import com.DongSeo.platform.config.sql.SqlStatsInterceptor;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
@@ -8,10 +12,22 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
  * 정적 리소스 설정
  * Spring Boot는 기본적으로 resources/static 폴더를 제공하지만,
  * 명시적으로 설정하여 확실하게 동작하도록 함
+ * + 컨트롤러 메서드별 SQL 통계 인터셉터 등록
+ * + 관리자 API는 replica 대신 primary에서 읽도록 고정
  */
 @Configuration
+@RequiredArgsConstructor
 public class WebConfig implements WebMvcConfigurer {
 
+    private final SqlStatsInterceptor sqlStatsInterceptor;
+    private final PrimaryPinningInterceptor primaryPinningInterceptor;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(sqlStatsInterceptor);
+        registry.addInterceptor(primaryPinningInterceptor).addPathPatterns("/api/admin/**");
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
         // 정적 리소스 핸들러 추가
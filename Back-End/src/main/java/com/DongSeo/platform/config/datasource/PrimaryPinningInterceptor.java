@@ -0,0 +1,25 @@
+package com.DongSeo.platform.config.datasource;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 관리자 API 요청은 읽기 전용 조회도 primary에서 읽음
+ * 관리자 화면은 방금 저장한 내용을 바로 다시 조회하므로 replica 복제 지연이 보이면 안 된다.
+ */
+@Component
+public class PrimaryPinningInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        ReplicaRouting.pinPrimary();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        ReplicaRouting.unpinPrimary();
+    }
+}
@@ -0,0 +1,131 @@
+package com.DongSeo.platform.config.datasource;
+
+import com.DongSeo.platform.config.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 읽기 전용 트랜잭션의 replica 라우팅 (app.datasource.replica.urls를 지정했을 때만)
+ *
+ * 애플리케이션이 쓰는 DataSource는 primary를 감싼 LazyConnectionDataSourceProxy이며,
+ * readOnly 트랜잭션은 커넥션을 readOnly로 준비하므로 첫 SQL 시점에 ReplicaRoutingDataSource로 간다.
+ * 쓰기 경로(readOnly가 아닌 트랜잭션, 스키마/시드 초기화)는 그대로 primary를 쓴다.
+ * replica 풀은 primary와 같은 계정/풀 크기를 쓰고 hikaricp.*{pool=replica-N} 지표를 남긴다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnExpression("'${app.datasource.replica.urls:}' != ''")
+public class ReplicaDataSourceConfig {
+
+    /**
+     * primary 풀 (spring.datasource.*, spring.datasource.hikari.*)
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(@Value("${spring.datasource.url}") String url,
+                                              @Value("${spring.datasource.username}") String username,
+                                              @Value("${spring.datasource.password}") String password,
+                                              @Value("${spring.datasource.driver-class-name}") String driverClassName) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        dataSource.setJdbcUrl(url);
+        dataSource.setUsername(username);
+        dataSource.setPassword(password);
+        dataSource.setDriverClassName(driverClassName);
+        return dataSource;
+    }
+
+    /**
+     * replica 라우팅 (쉼표로 구분한 JDBC URL마다 replica-N 풀 하나, 풀 크기/시간 제한은 primary와 같게)
+     */
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Value("${app.datasource.replica.urls}") String urls,
+            @Value("${app.datasource.replica.username:${spring.datasource.username}}") String username,
+            @Value("${app.datasource.replica.password:${spring.datasource.password}}") String password,
+            @Value("${app.datasource.replica.max-lag:5s}") Duration maxLag,
+            @Value("${app.datasource.replica.lag-query:SHOW REPLICA STATUS}") String lagQuery,
+            @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+            MeterRegistry meterRegistry) throws SQLException {
+        HikariDataSource primary = primaryDataSource.unwrap(HikariDataSource.class);
+        List<String> jdbcUrls = Arrays.stream(urls.split(",")).map(String::trim).filter(s -> !s.isEmpty()).toList();
+
+        List<ReplicaRoutingDataSource.NamedDataSource> replicas = new ArrayList<>(jdbcUrls.size());
+        for (int i = 0; i < jdbcUrls.size(); i++) {
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + (i + 1));
+            pool.setDriverClassName(primary.getDriverClassName());
+            pool.setMaximumPoolSize(primary.getMaximumPoolSize());
+            pool.setMinimumIdle(primary.getMinimumIdle());
+            pool.setConnectionTimeout(primary.getConnectionTimeout());
+            pool.setIdleTimeout(primary.getIdleTimeout());
+            pool.setMaxLifetime(primary.getMaxLifetime());
+            pool.setDataSourceProperties(primary.getDataSourceProperties());
+            pool.setJdbcUrl(jdbcUrls.get(i));
+            pool.setUsername(username);
+            pool.setPassword(password);
+            pool.setReadOnly(true);
+            pool.setMetricRegistry(meterRegistry);
+            // 가상 스레드 모드에서는 primary와 같이 풀 크기만큼으로 동시 사용 제한 (VirtualThreadConfig)
+            DataSource dataSource = virtualThreads
+                    ? new ConnectionLimitingDataSource(pool, pool.getMaximumPoolSize(), pool.getConnectionTimeout())
+                    : pool;
+            replicas.add(new ReplicaRoutingDataSource.NamedDataSource(pool.getPoolName(), dataSource));
+            log.info("replica 등록: pool={}, url={}", pool.getPoolName(), jdbcUrls.get(i));
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, replicas, maxLag,
+                lagQuery, meterRegistry);
+        // 첫 확인 전에는 모든 replica가 제외되므로 기동 시 한 번 바로 확인
+        routing.checkLag();
+        return routing;
+    }
+
+    /**
+     * 애플리케이션 DataSource: 쓰기는 primary, readOnly 트랜잭션은 replica
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 ReplicaRoutingDataSource replicaRoutingDataSource) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primaryDataSource);
+        dataSource.setReadOnlyDataSource(replicaRoutingDataSource);
+        return dataSource;
+    }
+
+    /**
+     * 복제 지연 주기 확인 (app.datasource.replica.check-interval)
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ScheduledExecutorService replicaLagChecker(ReplicaRoutingDataSource replicaRoutingDataSource,
+                                                      @Value("${app.datasource.replica.check-interval:5s}") Duration interval) {
+        ScheduledExecutorService executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "replica-lag-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        executor.scheduleWithFixedDelay(replicaRoutingDataSource::checkLag,
+                interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        return executor;
+    }
+}
@@ -0,0 +1,52 @@
+package com.DongSeo.platform.config.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션이라도 primary에서 읽어야 하는 구간 지정
+ *
+ * 방금 커밋한 내용을 바로 읽어야 하는 곳(관리자 쓰기 직후 카탈로그 스냅샷 재구성, 관리자 화면)은
+ * 복제 지연이 있는 replica에서 읽으면 안 되므로 현재 스레드를 primary에 고정한다.
+ * 커넥션을 실제로 빌리는 시점에 확인하므로, 고정은 트랜잭션 안의 첫 SQL보다 먼저 시작해야 한다.
+ * replica가 설정되지 않았으면 아무 효과가 없다.
+ */
+public final class ReplicaRouting {
+
+    private static final ThreadLocal<Integer> PRIMARY_PINS = new ThreadLocal<>();
+
+    private ReplicaRouting() {
+    }
+
+    /**
+     * primary에 고정한 채로 실행
+     */
+    public static <T> T onPrimary(Supplier<T> work) {
+        pinPrimary();
+        try {
+            return work.get();
+        } finally {
+            unpinPrimary();
+        }
+    }
+
+    /**
+     * 현재 스레드를 primary에 고정 (중첩 가능, unpinPrimary와 짝을 맞출 것)
+     */
+    public static void pinPrimary() {
+        Integer pins = PRIMARY_PINS.get();
+        PRIMARY_PINS.set(pins == null ? 1 : pins + 1);
+    }
+
+    public static void unpinPrimary() {
+        Integer pins = PRIMARY_PINS.get();
+        if (pins == null || pins <= 1) {
+            PRIMARY_PINS.remove();
+        } else {
+            PRIMARY_PINS.set(pins - 1);
+        }
+    }
+
+    public static boolean primaryPinned() {
+        return PRIMARY_PINS.get() != null;
+    }
+}
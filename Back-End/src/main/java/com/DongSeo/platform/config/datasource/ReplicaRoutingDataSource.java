@@ -0,0 +1,234 @@
+package com.DongSeo.platform.config.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 읽기 전용 커넥션을 replica로 보내는 DataSource
+ *
+ * LazyConnectionDataSourceProxy의 readOnlyDataSource로 쓰이므로, readOnly 트랜잭션이 첫 SQL을 실행할 때만 호출된다.
+ * - replica는 돌아가며(round robin) 고르고, 복제 지연이 max-lag를 넘었거나 연결에 실패한 replica는 건너뛴다.
+ * - 쓸 수 있는 replica가 없거나 ReplicaRouting으로 primary에 고정된 스레드는 primary를 쓴다.
+ * - 복제 지연은 checkLag()가 주기적으로 갱신한다. (lag-query 결과가 없으면 복제 설정이 없는 단독 인스턴스로 보고 지연 0)
+ *
+ * 지표: datasource.route{target, reason}, datasource.replica.lag{target}(초, 모르면 -1), datasource.replica.available{target}
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    static final String PRIMARY = "primary";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLagSeconds;
+    private final String lagQuery;
+    private final AtomicInteger cursor = new AtomicInteger();
+    private final Counter pinnedToPrimary;
+    private final Counter fallbackToPrimary;
+
+    public ReplicaRoutingDataSource(DataSource primary, List<NamedDataSource> replicas, Duration maxLag,
+                                    String lagQuery, MeterRegistry meterRegistry) {
+        if (replicas.isEmpty()) {
+            throw new IllegalArgumentException("replica가 하나 이상 있어야 합니다.");
+        }
+        this.primary = primary;
+        this.maxLagSeconds = maxLag.toSeconds();
+        this.lagQuery = lagQuery == null || lagQuery.isBlank() ? null : lagQuery;
+        this.pinnedToPrimary = routeCounter(meterRegistry, PRIMARY, "pinned");
+        this.fallbackToPrimary = routeCounter(meterRegistry, PRIMARY, "fallback");
+
+        List<Replica> list = new ArrayList<>(replicas.size());
+        for (NamedDataSource replica : replicas) {
+            Replica target = new Replica(replica.name(), replica.dataSource(),
+                    routeCounter(meterRegistry, replica.name(), "read-only"));
+            Gauge.builder("datasource.replica.lag", target, r -> r.lagSeconds)
+                    .description("replica 복제 지연 (초, 모르면 -1)")
+                    .baseUnit("seconds")
+                    .tag("target", target.name)
+                    .register(meterRegistry);
+            Gauge.builder("datasource.replica.available", target, r -> r.usable(maxLagSeconds) ? 1 : 0)
+                    .description("읽기 전용 요청을 받을 수 있는 replica (1/0)")
+                    .tag("target", target.name)
+                    .register(meterRegistry);
+            list.add(target);
+        }
+        this.replicas = List.copyOf(list);
+    }
+
+    public record NamedDataSource(String name, DataSource dataSource) {
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return route(DataSource::getConnection);
+    }
+
+    /**
+     * 사용자 지정 커넥션도 getConnection()과 같은 방식으로 대상을 고른다
+     */
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return route(dataSource -> dataSource.getConnection(username, password));
+    }
+
+    private Connection route(ConnectionOpener opener) throws SQLException {
+        if (ReplicaRouting.primaryPinned()) {
+            pinnedToPrimary.increment();
+            return opener.open(primary);
+        }
+
+        int start = Math.floorMod(cursor.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (!replica.usable(maxLagSeconds)) {
+                continue;
+            }
+            try {
+                Connection connection = opener.open(replica.dataSource);
+                replica.routed.increment();
+                return connection;
+            } catch (SQLFeatureNotSupportedException e) {
+                // 풀이 사용자 지정 커넥션을 지원하지 않는 경우(Hikari 등): replica 장애가 아니므로 제외하지 않음
+                throw e;
+            } catch (SQLException e) {
+                // 다음 지연 확인에서 다시 살아날 때까지 제외
+                replica.markDown();
+                log.warn("replica 연결 실패, 제외: target={}, reason={}", replica.name, e.getMessage());
+            }
+        }
+
+        fallbackToPrimary.increment();
+        return opener.open(primary);
+    }
+
+    /**
+     * replica 풀 종료 (종료 시 컨테이너가 호출)
+     */
+    @Override
+    public void close() {
+        for (Replica replica : replicas) {
+            try {
+                if (replica.dataSource.isWrapperFor(Closeable.class)) {
+                    replica.dataSource.unwrap(Closeable.class).close();
+                }
+            } catch (SQLException | IOException e) {
+                log.warn("replica 풀 종료 실패: target={}", replica.name, e);
+            }
+        }
+    }
+
+    /**
+     * replica별 복제 지연 갱신 (ReplicaDataSourceConfig가 주기적으로 호출)
+     */
+    public void checkLag() {
+        for (Replica replica : replicas) {
+            boolean wasUsable = replica.usable(maxLagSeconds);
+            try {
+                replica.update(readLagSeconds(replica.dataSource));
+            } catch (SQLException | RuntimeException e) {
+                replica.markDown();
+                log.debug("replica 지연 확인 실패: target={}, reason={}", replica.name, e.getMessage());
+            }
+            boolean usable = replica.usable(maxLagSeconds);
+            if (wasUsable != usable) {
+                log.warn("replica 상태 변경: target={}, usable={}, lagSeconds={}, maxLagSeconds={}",
+                        replica.name, usable, replica.lagSeconds, maxLagSeconds);
+            }
+        }
+    }
+
+    /**
+     * 복제 지연(초). 복제가 멈춘 경우(지연 값 NULL) -1
+     */
+    private long readLagSeconds(DataSource dataSource) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            if (lagQuery == null) {
+                statement.execute("SELECT 1");
+                return 0;
+            }
+            try (ResultSet rs = statement.executeQuery(lagQuery)) {
+                if (!rs.next()) {
+                    return 0;
+                }
+                int column = lagColumn(rs.getMetaData());
+                long lag = rs.getLong(column);
+                return rs.wasNull() ? -1 : lag;
+            }
+        }
+    }
+
+    /**
+     * SHOW REPLICA STATUS(8.0.22+)는 Seconds_Behind_Source, 이전 버전/MariaDB는 Seconds_Behind_Master.
+     * 그 외 사용자 지정 쿼리는 첫 번째 열을 지연(초)으로 본다.
+     */
+    private static int lagColumn(ResultSetMetaData meta) throws SQLException {
+        for (int i = 1; i <= meta.getColumnCount(); i++) {
+            String label = meta.getColumnLabel(i);
+            if ("Seconds_Behind_Source".equalsIgnoreCase(label) || "Seconds_Behind_Master".equalsIgnoreCase(label)) {
+                return i;
+            }
+        }
+        return 1;
+    }
+
+    private static Counter routeCounter(MeterRegistry meterRegistry, String target, String reason) {
+        return Counter.builder("datasource.route")
+                .description("읽기 전용 커넥션을 보낸 대상별 횟수")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    @FunctionalInterface
+    private interface ConnectionOpener {
+        Connection open(DataSource dataSource) throws SQLException;
+    }
+
+    private static final class Replica {
+
+        private final String name;
+        private final DataSource dataSource;
+        private final Counter routed;
+        /** 마지막으로 확인한 지연 (초), 확인 전/실패/복제 중단이면 -1 */
+        private volatile long lagSeconds = -1;
+        private volatile boolean reachable;
+
+        private Replica(String name, DataSource dataSource, Counter routed) {
+            this.name = name;
+            this.dataSource = dataSource;
+            this.routed = routed;
+        }
+
+        private boolean usable(long maxLagSeconds) {
+            return reachable && lagSeconds >= 0 && lagSeconds <= maxLagSeconds;
+        }
+
+        private void update(long lagSeconds) {
+            this.lagSeconds = lagSeconds;
+            this.reachable = true;
+        }
+
+        private void markDown() {
+            this.reachable = false;
+            this.lagSeconds = -1;
+        }
+    }
+}
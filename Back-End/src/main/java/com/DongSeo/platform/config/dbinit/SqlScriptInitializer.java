@@ -0,0 +1,350 @@
+package com.DongSeo.platform.config.dbinit;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.EncodedResource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.jdbc.datasource.init.ScriptUtils;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+/**
+ * 스키마/시드 SQL 스크립트 초기화 (내용이 바뀐 스크립트만 실행)
+ *
+ * 기동할 때마다 fix_schema.sql, data.sql 전체를 continue-on-error로 다시 실행하던 spring.sql.init을 대신한다.
+ * - 스크립트 파일마다 SHA-256 체크섬을 sql_init_history에 기록하고, 마지막으로 적용한 체크섬과 같으면 실행하지 않는다.
+ * - 한 위치에 여러 파일이 있으면 파일 이름 순서로 실행한다 (V001__..., V002__... 처럼 버전을 앞에 붙일 것).
+ * - 실패한 문장이 있으면 기동을 멈춘다. continue-on-error를 켜면 실패 문장 수를 경고로 남기고 기록한다.
+ * - 이미 적용한 스크립트의 내용이 바뀌면 파일 전체를 다시 실행해야 하므로, "-- db-init: rerunnable" 줄로
+ *   다시 실행해도 된다고 표시한 파일만 실행한다. 표시가 없으면 어떤 스크립트도 실행하기 전에 기동을 멈춘다.
+ *   (기존 data.sql처럼 평범한 INSERT는 다시 실행하면 중복 키로 실패하므로, 변경은 버전을 붙인 새 파일로 추가할 것)
+ * - baseline: 이미 스크립트가 반영된 DB에 처음 도입할 때 실행 없이 현재 체크섬만 기록한다.
+ *   sql_init_history에 기록이 없는데 다른 테이블이 이미 있으면(도입 전 기동마다 스크립트를 실행하던 DB) 자동으로 기준을 기록한다. (auto-baseline)
+ * 여러 서버가 동시에 기동해도 MySQL에서는 GET_LOCK으로 한 서버만 실행한다.
+ * 기동 로그에 실행/건너뜀 수와, 건너뛴 스크립트의 마지막 실행 시간 합(절약한 시간)을 남긴다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "app.db-init.enabled", havingValue = "true", matchIfMissing = true)
+public class SqlScriptInitializer implements InitializingBean {
+
+    static final String HISTORY_TABLE = "sql_init_history";
+
+    private static final String LOCK_NAME = "dongseo.sql_init";
+    private static final int LOCK_TIMEOUT_SECONDS = 60;
+    private static final int MAX_LOGGED_SQL_LENGTH = 200;
+    /** 내용이 바뀌어도 다시 실행해도 되는 스크립트 표시 (한 줄 전체) */
+    static final String RERUNNABLE_MARKER = "-- db-init: rerunnable";
+
+    private final DataSource dataSource;
+    private final ResourcePatternResolver resourceResolver = new PathMatchingResourcePatternResolver();
+    private final String schemaLocations;
+    private final String dataLocations;
+    private final String separator;
+    private final boolean continueOnError;
+    private final boolean baseline;
+    private final boolean autoBaseline;
+
+    public SqlScriptInitializer(DataSource dataSource,
+                                @Value("${app.db-init.schema-locations:}") String schemaLocations,
+                                @Value("${app.db-init.data-locations:}") String dataLocations,
+                                @Value("${app.db-init.separator:;}") String separator,
+                                @Value("${app.db-init.continue-on-error:false}") boolean continueOnError,
+                                @Value("${app.db-init.baseline:false}") boolean baseline,
+                                @Value("${app.db-init.auto-baseline:true}") boolean autoBaseline) {
+        this.dataSource = dataSource;
+        this.schemaLocations = schemaLocations;
+        this.dataLocations = dataLocations;
+        this.separator = separator;
+        this.continueOnError = continueOnError;
+        this.baseline = baseline;
+        this.autoBaseline = autoBaseline;
+    }
+
+    private record Script(String key, Resource resource, String sql, String checksum) {
+
+        boolean rerunnable() {
+            return sql.lines().anyMatch(line -> line.trim().equalsIgnoreCase(RERUNNABLE_MARKER));
+        }
+    }
+
+    private record Applied(String checksum, long elapsedMs) {
+    }
+
+    @Override
+    public void afterPropertiesSet() throws SQLException {
+        List<Script> scripts = new ArrayList<>();
+        scripts.addAll(resolve("schema", schemaLocations));
+        scripts.addAll(resolve("data", dataLocations));
+        if (scripts.isEmpty()) {
+            log.info("DB 초기화 스크립트 없음");
+            return;
+        }
+
+        long startedAt = System.nanoTime();
+        int applied = 0;
+        int skipped = 0;
+        long savedMs = 0;
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            boolean locked = lock(connection);
+            try {
+                // 기록 테이블은 없고 다른 테이블은 있음: 도입 전 기동마다 스크립트를 실행하던 DB
+                List<String> tables = tables(connection);
+                boolean existingDatabase = !tables.isEmpty() && tables.stream().noneMatch(HISTORY_TABLE::equalsIgnoreCase);
+                createHistoryTable(connection);
+                boolean baselineRun = baseline || (autoBaseline && existingDatabase);
+                if (baselineRun && !baseline) {
+                    log.warn("DB 초기화 기록 없이 기존 테이블이 있어 스크립트를 실행하지 않고 기준만 기록합니다. "
+                            + "스크립트를 다시 실행하려면 {}의 BASELINE 기록을 지우고 기동하세요.", HISTORY_TABLE);
+                }
+                List<Applied> lastApplied = new ArrayList<>();
+                for (Script script : scripts) {
+                    lastApplied.add(lastApplied(connection, script.key()));
+                }
+                if (!baselineRun) {
+                    checkChangedScriptsRerunnable(scripts, lastApplied);
+                }
+                for (int i = 0; i < scripts.size(); i++) {
+                    Script script = scripts.get(i);
+                    Applied last = lastApplied.get(i);
+                    if (last != null && last.checksum().equals(script.checksum())) {
+                        skipped++;
+                        savedMs += last.elapsedMs();
+                        log.debug("DB 초기화 건너뜀 (변경 없음): {}", script.key());
+                    } else if (baselineRun) {
+                        record(connection, script, "BASELINE", 0, 0, 0);
+                        log.info("DB 초기화 기준 기록 (실행 안 함): {}, checksum={}", script.key(), script.checksum());
+                    } else {
+                        apply(connection, script, last != null);
+                        applied++;
+                    }
+                }
+            } finally {
+                if (locked) {
+                    unlock(connection);
+                }
+            }
+        }
+        log.info("DB 초기화 완료: 실행 {}개, 건너뜀 {}개, 소요 {}ms (건너뛴 스크립트의 마지막 실행 시간 합 {}ms)",
+                applied, skipped, (System.nanoTime() - startedAt) / 1_000_000, savedMs);
+    }
+
+    /**
+     * 이미 적용했는데 내용이 바뀐 스크립트가 모두 다시 실행해도 되는지 (아니면 아무것도 실행하기 전에 실패)
+     */
+    private static void checkChangedScriptsRerunnable(List<Script> scripts, List<Applied> lastApplied) {
+        List<String> blocked = new ArrayList<>();
+        for (int i = 0; i < scripts.size(); i++) {
+            Applied last = lastApplied.get(i);
+            Script script = scripts.get(i);
+            if (last != null && !last.checksum().equals(script.checksum()) && !script.rerunnable()) {
+                blocked.add(script.key());
+            }
+        }
+        if (!blocked.isEmpty()) {
+            throw new IllegalStateException("DB 초기화 중단: 이미 적용한 스크립트의 내용이 바뀌었습니다 " + blocked
+                    + ". 바뀐 내용은 버전을 붙인 새 파일(예: V002__add_color_cost.sql)로 추가하거나, "
+                    + "파일 전체를 다시 실행해도 되게 작성한 뒤 '" + RERUNNABLE_MARKER + "' 줄을 넣으세요.");
+        }
+    }
+
+    private void apply(Connection connection, Script script, boolean changed) throws SQLException {
+        List<String> statements = new ArrayList<>();
+        ScriptUtils.splitSqlScript(new EncodedResource(script.resource(), StandardCharsets.UTF_8), script.sql(),
+                separator, ScriptUtils.DEFAULT_COMMENT_PREFIXES, ScriptUtils.DEFAULT_BLOCK_COMMENT_START_DELIMITER,
+                ScriptUtils.DEFAULT_BLOCK_COMMENT_END_DELIMITER, statements);
+
+        log.info("DB 초기화 실행: {} ({}, 문장 {}개)", script.key(), changed ? "내용 변경" : "처음 적용", statements.size());
+        long startedAt = System.nanoTime();
+        int failed = 0;
+        try (Statement statement = connection.createStatement()) {
+            for (int i = 0; i < statements.size(); i++) {
+                String sql = statements.get(i);
+                try {
+                    statement.execute(sql);
+                } catch (SQLException e) {
+                    if (!continueOnError) {
+                        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+                        record(connection, script, "FAILED", i + 1, 1, elapsedMs);
+                        throw new IllegalStateException("DB 초기화 실패: " + script.key() + " " + (i + 1)
+                                + "번째 문장 - " + abbreviate(sql), e);
+                    }
+                    failed++;
+                    log.warn("DB 초기화 문장 실패 (계속 진행): {} {}번째 문장 - {} ({})",
+                            script.key(), i + 1, abbreviate(sql), e.getMessage());
+                }
+            }
+        }
+        long elapsedMs = (System.nanoTime() - startedAt) / 1_000_000;
+        record(connection, script, "APPLIED", statements.size(), failed, elapsedMs);
+        if (failed > 0) {
+            log.warn("DB 초기화 적용 (실패 문장 포함): {}, 실패 {}/{}개, {}ms", script.key(), failed, statements.size(), elapsedMs);
+        } else {
+            log.info("DB 초기화 적용: {}, {}ms", script.key(), elapsedMs);
+        }
+    }
+
+    /**
+     * 쉼표로 구분한 위치의 스크립트 (optional: 접두어는 없어도 됨, 위치 안에서는 파일 이름 순)
+     */
+    private List<Script> resolve(String kind, String locations) {
+        List<Script> scripts = new ArrayList<>();
+        for (String location : locations.split(",")) {
+            String trimmed = location.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            boolean optional = trimmed.startsWith("optional:");
+            String pattern = optional ? trimmed.substring("optional:".length()) : trimmed;
+            List<Resource> resources;
+            try {
+                resources = Arrays.stream(resourceResolver.getResources(pattern))
+                        .filter(Resource::exists)
+                        .sorted(Comparator.comparing(Resource::getFilename, Comparator.nullsFirst(Comparator.naturalOrder())))
+                        .toList();
+            } catch (IOException e) {
+                throw new UncheckedIOException("DB 초기화 스크립트를 찾을 수 없습니다: " + trimmed, e);
+            }
+            if (resources.isEmpty() && !optional) {
+                throw new IllegalStateException("DB 초기화 스크립트가 없습니다: " + trimmed);
+            }
+            for (Resource resource : resources) {
+                byte[] content = read(resource);
+                scripts.add(new Script(kind + ":" + resource.getFilename(), resource,
+                        new String(content, StandardCharsets.UTF_8), sha256(content)));
+            }
+        }
+        return scripts;
+    }
+
+    /**
+     * 현재 catalog/schema의 테이블 이름 (MySQL은 소문자, H2 등은 대문자로 돌려주므로 비교는 대소문자 구분 없이)
+     */
+    private static List<String> tables(Connection connection) throws SQLException {
+        List<String> tables = new ArrayList<>();
+        try (ResultSet rs = connection.getMetaData().getTables(connection.getCatalog(), connection.getSchema(), "%",
+                new String[]{"TABLE"})) {
+            while (rs.next()) {
+                tables.add(rs.getString("TABLE_NAME"));
+            }
+        }
+        return tables;
+    }
+
+    private static void createHistoryTable(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS " + HISTORY_TABLE + " ("
+                    + "id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                    + "script VARCHAR(255) NOT NULL, "
+                    + "checksum CHAR(64) NOT NULL, "
+                    + "result VARCHAR(20) NOT NULL, "
+                    + "statements INT NOT NULL, "
+                    + "failed_statements INT NOT NULL, "
+                    + "elapsed_ms BIGINT NOT NULL, "
+                    + "applied_at TIMESTAMP NOT NULL)");
+        }
+    }
+
+    /**
+     * 마지막으로 적용(또는 기준 기록)한 체크섬. 실패 기록은 보지 않으므로 실패한 스크립트는 다음 기동에 다시 실행된다.
+     */
+    private static Applied lastApplied(Connection connection, String key) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT checksum, elapsed_ms FROM " + HISTORY_TABLE
+                + " WHERE script = ? AND result IN ('APPLIED', 'BASELINE') ORDER BY id DESC LIMIT 1")) {
+            ps.setString(1, key);
+            try (ResultSet rs = ps.executeQuery()) {
+                return rs.next() ? new Applied(rs.getString(1), rs.getLong(2)) : null;
+            }
+        }
+    }
+
+    private static void record(Connection connection, Script script, String result, int statements, int failed,
+                               long elapsedMs) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("INSERT INTO " + HISTORY_TABLE
+                + " (script, checksum, result, statements, failed_statements, elapsed_ms, applied_at)"
+                + " VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            ps.setString(1, script.key());
+            ps.setString(2, script.checksum());
+            ps.setString(3, result);
+            ps.setInt(4, statements);
+            ps.setInt(5, failed);
+            ps.setLong(6, elapsedMs);
+            ps.setTimestamp(7, new Timestamp(System.currentTimeMillis()));
+            ps.executeUpdate();
+        }
+    }
+
+    /**
+     * 여러 서버가 동시에 기동할 때 한 서버만 실행 (MySQL만, 그 외 DB는 잠그지 않음)
+     */
+    private static boolean lock(Connection connection) throws SQLException {
+        if (!isMySql(connection)) {
+            return false;
+        }
+        try (PreparedStatement ps = connection.prepareStatement("SELECT GET_LOCK(?, ?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.setInt(2, LOCK_TIMEOUT_SECONDS);
+            try (ResultSet rs = ps.executeQuery()) {
+                if (!rs.next() || rs.getInt(1) != 1) {
+                    throw new IllegalStateException("DB 초기화 잠금을 얻지 못했습니다 (" + LOCK_TIMEOUT_SECONDS + "초)");
+                }
+            }
+        }
+        return true;
+    }
+
+    private static void unlock(Connection connection) throws SQLException {
+        try (PreparedStatement ps = connection.prepareStatement("SELECT RELEASE_LOCK(?)")) {
+            ps.setString(1, LOCK_NAME);
+            ps.execute();
+        }
+    }
+
+    private static boolean isMySql(Connection connection) throws SQLException {
+        String product = connection.getMetaData().getDatabaseProductName();
+        return product != null && (product.equalsIgnoreCase("MySQL") || product.equalsIgnoreCase("MariaDB"));
+    }
+
+    private static byte[] read(Resource resource) {
+        try (InputStream in = resource.getInputStream()) {
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException("DB 초기화 스크립트를 읽을 수 없습니다: " + resource.getDescription(), e);
+        }
+    }
+
+    private static String sha256(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
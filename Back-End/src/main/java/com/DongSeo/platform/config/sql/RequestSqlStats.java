@@ -0,0 +1,104 @@
+package com.DongSeo.platform.config.sql;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 요청 한 건 동안 실행된 SQL 통계 (요청 스레드 전용)
+ *
+ * SqlStatsInterceptor가 요청 시작 시 begin()으로 만들고 끝나면 end()로 치운다.
+ * Hibernate 쪽(SqlStatementCounter, SqlTimingListener)은 current()가 null이면(요청 밖: 기동, 백그라운드 작업) 아무것도 하지 않는다.
+ * JdbcTemplate으로 직접 실행하는 SQL(가격표 일괄 등록)은 Hibernate를 거치지 않으므로 세지 않는다.
+ */
+public final class RequestSqlStats {
+
+    private static final ThreadLocal<RequestSqlStats> CURRENT = new ThreadLocal<>();
+
+    /** 요청 하나에서 따로 세는 SQL 형태 수 상한 (일괄 작업에서 맵이 커지지 않도록) */
+    private static final int MAX_SHAPES = 256;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    /** IN (?, ?, ?) → IN (?...) : 파라미터 개수만 다른 SQL은 같은 형태로 본다 */
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+
+    private final String handler;
+    private final long startNanos = System.nanoTime();
+    private int statements;
+    private long executionNanos;
+    private final Map<String, Integer> shapes = new HashMap<>();
+
+    private RequestSqlStats(String handler) {
+        this.handler = handler;
+    }
+
+    public static RequestSqlStats begin(String handler) {
+        RequestSqlStats stats = new RequestSqlStats(handler);
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    /**
+     * 현재 요청의 통계 (요청 밖이면 null)
+     */
+    public static RequestSqlStats current() {
+        return CURRENT.get();
+    }
+
+    public static RequestSqlStats end() {
+        RequestSqlStats stats = CURRENT.get();
+        CURRENT.remove();
+        return stats;
+    }
+
+    void recordStatement(String sql) {
+        statements++;
+        String shape = shapeOf(sql);
+        Integer count = shapes.get(shape);
+        if (count != null) {
+            shapes.put(shape, count + 1);
+        } else if (shapes.size() < MAX_SHAPES) {
+            shapes.put(shape, 1);
+        }
+    }
+
+    void recordExecution(long nanos) {
+        executionNanos += nanos;
+    }
+
+    static String shapeOf(String sql) {
+        String normalized = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        return PARAMETER_LIST.matcher(normalized).replaceAll("(?...)");
+    }
+
+    /** 컨트롤러 메서드 (예: EstimateController.getProducts) */
+    public String handler() {
+        return handler;
+    }
+
+    public int statements() {
+        return statements;
+    }
+
+    /** JDBC 실행 시간 합계 */
+    public long executionNanos() {
+        return executionNanos;
+    }
+
+    public long elapsedNanos() {
+        return System.nanoTime() - startNanos;
+    }
+
+    /**
+     * threshold번을 넘게 반복된 SQL 형태 → 횟수 (N+1 의심)
+     */
+    public Map<String, Integer> repeatedShapes(int threshold) {
+        Map<String, Integer> repeated = new HashMap<>();
+        shapes.forEach((shape, count) -> {
+            if (count > threshold) {
+                repeated.put(shape, count);
+            }
+        });
+        return repeated;
+    }
+}
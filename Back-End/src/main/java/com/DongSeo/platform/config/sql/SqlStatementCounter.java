@@ -0,0 +1,19 @@
+package com.DongSeo.platform.config.sql;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 준비하는 SQL을 현재 요청의 통계에 기록 (SQL은 바꾸지 않음)
+ * hibernate.session_factory.statement_inspector 설정으로 등록한다.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            stats.recordStatement(sql);
+        }
+        return sql;
+    }
+}
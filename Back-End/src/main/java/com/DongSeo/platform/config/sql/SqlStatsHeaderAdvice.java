@@ -0,0 +1,49 @@
+package com.DongSeo.platform.config.sql;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 개발/테스트 환경에서 응답 헤더로 SQL 수 확인 (X-Query-Count, X-Query-Time-Ms)
+ *
+ * 응답 본문을 쓰기 직전에 붙인다 (HandlerInterceptor.postHandle 시점에는 이미 응답이 커밋되어 헤더를 추가할 수 없음).
+ * 운영에서는 내부 정보가 드러나지 않도록 기본값 꺼짐 (SQL_STATS_HEADER=true로 켬).
+ */
+@ControllerAdvice
+public class SqlStatsHeaderAdvice implements ResponseBodyAdvice<Object> {
+
+    public static final String QUERY_COUNT_HEADER = "X-Query-Count";
+    public static final String QUERY_TIME_HEADER = "X-Query-Time-Ms";
+
+    private final boolean exposeHeader;
+
+    public SqlStatsHeaderAdvice(@Value("${app.sql-stats.expose-header:false}") boolean exposeHeader) {
+        this.exposeHeader = exposeHeader;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return exposeHeader;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null) {
+            response.getHeaders().set(QUERY_COUNT_HEADER, String.valueOf(stats.statements()));
+            response.getHeaders().set(QUERY_TIME_HEADER,
+                    String.valueOf(TimeUnit.NANOSECONDS.toMillis(stats.executionNanos())));
+        }
+        return body;
+    }
+}
@@ -0,0 +1,81 @@
+package com.DongSeo.platform.config.sql;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 컨트롤러 메서드별 SQL 실행 수/시간 집계와 N+1 경고
+ *
+ * 요청마다 RequestSqlStats를 시작하고, 끝나면 지표로 남긴다.
+ * - sql.request.statements{handler}: 요청당 SQL 수 (분포)
+ * - sql.request.time{handler}: 요청당 JDBC 실행 시간 합계
+ * - sql.request.repeated{handler}: 같은 형태의 SQL이 repeat-threshold번을 넘게 반복된 요청 수 (경고 로그도 남김)
+ */
+@Slf4j
+@Component
+public class SqlStatsInterceptor implements HandlerInterceptor {
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final int repeatThreshold;
+
+    public SqlStatsInterceptor(MeterRegistry meterRegistry,
+                               @Value("${app.sql-stats.repeat-threshold:10}") int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (handler instanceof HandlerMethod method) {
+            RequestSqlStats.begin(method.getBeanType().getSimpleName() + "." + method.getMethod().getName());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        RequestSqlStats stats = RequestSqlStats.end();
+        if (stats == null) {
+            return;
+        }
+        String tag = stats.handler();
+        DistributionSummary.builder("sql.request.statements")
+                .tag("handler", tag)
+                .description("요청당 SQL 실행 수")
+                .register(meterRegistry)
+                .record(stats.statements());
+        Timer.builder("sql.request.time")
+                .tag("handler", tag)
+                .description("요청당 JDBC 실행 시간 합계")
+                .register(meterRegistry)
+                .record(stats.executionNanos(), TimeUnit.NANOSECONDS);
+
+        var repeated = stats.repeatedShapes(repeatThreshold);
+        if (!repeated.isEmpty()) {
+            Counter.builder("sql.request.repeated")
+                    .tag("handler", tag)
+                    .description("같은 SQL이 반복된 요청 수 (N+1 의심)")
+                    .register(meterRegistry)
+                    .increment();
+            repeated.forEach((shape, count) -> log.warn("N+1 의심: {} {} 요청에서 같은 SQL {}회 실행 (전체 {}회) - {}",
+                    tag, request.getRequestURI(), count, stats.statements(), abbreviate(shape)));
+        }
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+}
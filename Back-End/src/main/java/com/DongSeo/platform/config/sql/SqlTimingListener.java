@@ -0,0 +1,40 @@
+package com.DongSeo.platform.config.sql;
+
+import org.hibernate.SessionEventListener;
+
+/**
+ * 세션의 JDBC 실행 시간을 현재 요청의 통계에 더함
+ * hibernate.session.events.auto 설정으로 세션마다 새로 만들어진다 (세션은 한 스레드에서만 쓰므로 필드에 시작 시각을 둔다).
+ */
+public class SqlTimingListener implements SessionEventListener {
+
+    private long statementStart;
+    private long batchStart;
+
+    @Override
+    public void jdbcExecuteStatementStart() {
+        statementStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteStatementEnd() {
+        record(statementStart);
+    }
+
+    @Override
+    public void jdbcExecuteBatchStart() {
+        batchStart = System.nanoTime();
+    }
+
+    @Override
+    public void jdbcExecuteBatchEnd() {
+        record(batchStart);
+    }
+
+    private static void record(long start) {
+        RequestSqlStats stats = RequestSqlStats.current();
+        if (stats != null && start != 0) {
+            stats.recordExecution(System.nanoTime() - start);
+        }
+    }
+}
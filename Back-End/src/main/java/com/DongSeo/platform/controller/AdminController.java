@@ -9,13 +9,22 @@ import com.DongSeo.platform.repository.CategoryRepository;
 import com.DongSeo.platform.repository.CompanyRepository;
 import com.DongSeo.platform.repository.ProductRepository;
 import com.DongSeo.platform.repository.ProductVariantRepository;
+import com.DongSeo.platform.service.catalog.CatalogChangedEvent;
+import com.DongSeo.platform.service.importer.PriceSheetImportService;
+import com.DongSeo.platform.service.search.ProductSearchIndex;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import static java.util.Optional.ofNullable;
@@ -23,6 +32,7 @@ import static java.util.Optional.ofNullable;
 /**
  * 직원/관리자 전용 API - 제품(가구·목재 등) 추가, 수정, 삭제
  * /api/admin/** 는 STAFF, ADMIN 역할만 접근 가능 (SecurityConfig)
+ * 쓰기 API는 CatalogChangedEvent를 발행하며, 커밋 후 견적용 카탈로그 스냅샷이 교체된다.
  */
 @Slf4j
 @RestController
@@ -35,6 +45,11 @@ public class AdminController {
     private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
     private final ProductVariantRepository productVariantRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PriceSheetImportService priceSheetImportService;
+    private final ProductSearchIndex productSearchIndex;
+
+    private static final int MAX_SEARCH_PAGE_SIZE = 200;
 
     private static String toCode(String name) {
         if (name == null || name.isBlank()) return "ITEM";
@@ -71,6 +86,7 @@ public class AdminController {
         }
         Company company = new Company(name, code);
         company = companyRepository.save(company);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofCompany(company.getId()));
         return ResponseEntity.ok(new CompanyResponse(company.getId(), company.getName(), company.getCode()));
     }
 
@@ -101,6 +117,7 @@ public class AdminController {
             category.setParent(parent);
             category = categoryRepository.save(category);
         }
+        eventPublisher.publishEvent(CatalogChangedEvent.ofCompany(company.getId()));
         return ResponseEntity.ok(new CategoryResponse(category.getId(), category.getName(), category.getCode()));
     }
 
@@ -137,6 +154,7 @@ public class AdminController {
             v.setPrice(request.getVariantPrice());
             productVariantRepository.save(v);
         }
+        eventPublisher.publishEvent(CatalogChangedEvent.ofProduct(company.getId(), product.getId()));
 
         ProductResponse.CategoryInfo catInfo = new ProductResponse.CategoryInfo(
                 category.getId(), category.getName(), category.getCode());
@@ -148,37 +166,98 @@ public class AdminController {
     /**
      * 제품 검색 (키워드, 회사, 카테고리 - 선택)
      * 수정/삭제할 항목 찾기용
+     * keyset 페이지네이션: 응답의 nextCursor를 cursor로 그대로 넘기면 다음 페이지를 조회한다.
+     * - 키워드 없음: id 순, cursor는 마지막 제품 id
+     * - 키워드: ProductSearchIndex 관련도 순 (제품명/설명/규격/카테고리명, 초성 검색 가능), cursor는 "점수:id"
+     * 페이지의 variants는 제품 id 목록으로 한 번에 조회한다.
      */
     @GetMapping("/products/search")
     @Transactional(readOnly = true)
-    public ResponseEntity<List<AdminProductSearchResponse>> searchProducts(
+    public ResponseEntity<AdminProductSearchPageResponse> searchProducts(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long companyId,
-            @RequestParam(required = false) Long categoryId) {
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size) {
         String q = (keyword != null && keyword.isBlank()) ? null : keyword;
-        List<Product> products = productRepository.searchForAdmin(q, companyId, categoryId);
+        int pageSize = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+
+        // 한 건 더 읽어 다음 페이지가 있는지 확인
+        List<Product> products;
+        List<ProductSearchIndex.Hit> hits = List.of();
+        if (q == null) {
+            Long afterId = cursor != null ? parseCursorId(cursor) : null;
+            products = productRepository.searchForAdminAfter(companyId, categoryId, afterId,
+                    PageRequest.of(0, pageSize + 1));
+        } else {
+            // 키워드 검색은 메모리 검색 인덱스에서 (점수, id) 순으로 cursor 다음 결과를 찾고, 페이지에 해당하는 id만 조회
+            ProductSearchIndex.Hit after = cursor != null ? parseScoreCursor(cursor) : null;
+            hits = productSearchIndex.searchScored(q, companyId, categoryId).stream()
+                    .filter(h -> after == null || h.isAfter(after.score(), after.id()))
+                    .limit(pageSize + 1)
+                    .toList();
+            Map<Long, Product> byId = hits.isEmpty() ? Map.of()
+                    : productRepository.findAllWithCategoryAndCompanyByIdIn(hits.stream().map(ProductSearchIndex.Hit::id).toList())
+                            .stream().collect(Collectors.toMap(Product::getId, p -> p));
+            // 인덱스는 스냅샷 기준이므로 그사이 삭제된 제품은 건너뛴다
+            hits = hits.stream().filter(h -> byId.containsKey(h.id())).toList();
+            products = hits.stream().map(h -> byId.get(h.id())).toList();
+        }
+        boolean hasNext = products.size() > pageSize;
+        if (hasNext) {
+            products = products.subList(0, pageSize);
+        }
+
+        Map<Long, List<AdminProductSearchResponse.VariantInfo>> variantsByProduct = products.isEmpty()
+                ? Map.of()
+                : productVariantRepository.findByProductIdIn(products.stream().map(Product::getId).toList()).stream()
+                        .collect(Collectors.groupingBy(v -> v.getProduct().getId(),
+                                Collectors.mapping(v -> new AdminProductSearchResponse.VariantInfo(
+                                        v.getId(), v.getSpecName(), v.getTypeName(), v.getPrice()), Collectors.toList())));
+
         List<AdminProductSearchResponse> list = products.stream()
-                .map(p -> {
-                    List<AdminProductSearchResponse.VariantInfo> variants = productVariantRepository.findByProductId(p.getId())
-                            .stream()
-                            .map(v -> new AdminProductSearchResponse.VariantInfo(v.getId(), v.getSpecName(), v.getTypeName(), v.getPrice()))
-                            .collect(Collectors.toList());
-                    return AdminProductSearchResponse.builder()
-                            .id(p.getId())
-                            .name(p.getName())
-                            .description(p.getDescription())
-                            .size(p.getSize())
-                            .basePrice(p.getBasePrice())
-                            .companyId(p.getCompany().getId())
-                            .companyName(p.getCompany().getName())
-                            .categoryId(p.getCategory().getId())
-                            .categoryName(p.getCategory().getName())
-                            .categoryCode(p.getCategory().getCode())
-                            .variants(variants)
-                            .build();
-                })
+                .map(p -> AdminProductSearchResponse.builder()
+                        .id(p.getId())
+                        .name(p.getName())
+                        .description(p.getDescription())
+                        .size(p.getSize())
+                        .basePrice(p.getBasePrice())
+                        .companyId(p.getCompany().getId())
+                        .companyName(p.getCompany().getName())
+                        .categoryId(p.getCategory().getId())
+                        .categoryName(p.getCategory().getName())
+                        .categoryCode(p.getCategory().getCode())
+                        .variants(variantsByProduct.getOrDefault(p.getId(), List.of()))
+                        .build())
                 .collect(Collectors.toList());
-        return ResponseEntity.ok(list);
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = q == null
+                    ? String.valueOf(products.get(products.size() - 1).getId())
+                    : hits.get(pageSize - 1).score() + ":" + hits.get(pageSize - 1).id();
+        }
+        return ResponseEntity.ok(new AdminProductSearchPageResponse(list, nextCursor, pageSize));
+    }
+
+    private static Long parseCursorId(String cursor) {
+        try {
+            return Long.parseLong(cursor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 cursor입니다: " + cursor);
+        }
+    }
+
+    /**
+     * 키워드 검색 cursor "점수:id" (점수는 Double.toString 그대로라 정확히 복원된다)
+     */
+    private static ProductSearchIndex.Hit parseScoreCursor(String cursor) {
+        int colon = cursor.lastIndexOf(':');
+        try {
+            return new ProductSearchIndex.Hit(Long.parseLong(cursor.substring(colon + 1)),
+                    Double.parseDouble(cursor.substring(0, Math.max(colon, 0))));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 cursor입니다: " + cursor);
+        }
     }
 
     /**
@@ -202,6 +281,7 @@ public class AdminController {
             product.setBasePrice(request.getBasePrice());
         }
         productRepository.save(product);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofProduct(product.getCompany().getId(), id));
         return ResponseEntity.ok().build();
     }
 
@@ -223,6 +303,7 @@ public class AdminController {
             v.setPrice(request.getPrice());
         }
         productVariantRepository.save(v);
+        publishVariantChanged(v);
         return ResponseEntity.ok().build();
     }
 
@@ -236,6 +317,7 @@ public class AdminController {
                 .orElseThrow(() -> new IllegalArgumentException("제품을 찾을 수 없습니다."));
         productVariantRepository.findByProductId(id).forEach(productVariantRepository::delete);
         productRepository.delete(product);
+        eventPublisher.publishEvent(CatalogChangedEvent.ofProduct(product.getCompany().getId(), id));
         return ResponseEntity.ok().build();
     }
 
@@ -248,6 +330,49 @@ public class AdminController {
         ProductVariant v = productVariantRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("규격을 찾을 수 없습니다."));
         productVariantRepository.delete(v);
+        publishVariantChanged(v);
         return ResponseEntity.ok().build();
     }
+
+    private void publishVariantChanged(ProductVariant v) {
+        Product product = v.getProduct();
+        eventPublisher.publishEvent(CatalogChangedEvent.ofProduct(product.getCompany().getId(), product.getId()));
+    }
+
+    /**
+     * 가격표 일괄 등록 (CSV/TSV 업로드)
+     * target: price-matrix (productId, optionName, maxWidth, maxHeight, price)
+     *         variants     (productId, specName, typeName, price, note)
+     * 첫 행은 헤더이며, 구분자는 delimiter 파라미터(comma/tab) 또는 파일 확장자(.tsv)로 정한다.
+     * 행 단위로 검증하고 chunk 단위로 커밋하므로, 일부 행이 실패해도 나머지는 저장된다.
+     */
+    @PostMapping("/import/{target}")
+    public ResponseEntity<PriceSheetImportResponse> importPriceSheet(
+            @PathVariable String target,
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String delimiter) throws IOException {
+        if (file.isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        char separator;
+        if (delimiter != null && !delimiter.isBlank()) {
+            separator = "tab".equalsIgnoreCase(delimiter) ? '\t' : ',';
+        } else {
+            String filename = file.getOriginalFilename();
+            separator = filename != null && filename.toLowerCase().endsWith(".tsv") ? '\t' : ',';
+        }
+        log.info("가격표 일괄 등록 요청: target={}, file={}, size={}", target, file.getOriginalFilename(), file.getSize());
+        try (InputStream in = file.getInputStream()) {
+            return ResponseEntity.ok(priceSheetImportService.importSheet(target, in, separator));
+        }
+    }
+
+    /**
+     * 잘못된 요청 (존재하지 않는 대상, 필수 컬럼 누락 등)
+     */
+    @ExceptionHandler(IllegalArgumentException.class)
+    public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException e) {
+        log.warn("잘못된 관리자 요청: {}", e.getMessage());
+        return ResponseEntity.badRequest().body("에러 발생: " + e.getMessage());
+    }
 }
@@ -1,35 +1,53 @@
 package com.DongSeo.platform.controller;
 
+import com.DongSeo.platform.config.datasource.ReplicaRouting;
 import com.DongSeo.platform.domain.Category;
 import com.DongSeo.platform.domain.Color;
 import com.DongSeo.platform.domain.Option;
 import com.DongSeo.platform.domain.Product;
-import com.DongSeo.platform.domain.ProductVariant;
 import com.DongSeo.platform.dto.*;
-import com.DongSeo.platform.repository.CategoryRepository;
 import com.DongSeo.platform.repository.ColorRepository;
 import com.DongSeo.platform.repository.OptionRepository;
 import com.DongSeo.platform.repository.ProductRepository;
-import com.DongSeo.platform.repository.ProductVariantRepository;
+import com.DongSeo.platform.service.CatalogBootstrapService;
 import com.DongSeo.platform.service.EstimationService;
 import com.DongSeo.platform.service.EstimatePdfService;
+import com.DongSeo.platform.service.PriceCurveService;
+import com.DongSeo.platform.service.catalog.CatalogCategory;
+import com.DongSeo.platform.service.catalog.CatalogCompany;
+import com.DongSeo.platform.service.catalog.CatalogEtags;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.catalog.CatalogVariant;
+import com.DongSeo.platform.service.catalog.CategoryTree;
+import com.DongSeo.platform.service.catalog.PricingCatalog;
+import com.DongSeo.platform.service.search.ProductSearchIndex;
+import com.DongSeo.platform.service.search.ProductSuggester;
+import com.DongSeo.platform.service.search.SuggestionTrie;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.IOException;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
 /**
  * 견적 관련 REST API 컨트롤러
  * 카테고리, 제품, 옵션, 색상 등의 조회 및 견적 계산을 제공합니다.
+ * 공개 조회 API는 회사 카탈로그 버전 기반의 강한 ETag를 내려주며, If-None-Match가 같으면
+ * 저장소를 조회하지 않고 304를 반환합니다. (트랜잭션도 열지 않도록 메서드에 @Transactional을 두지 않음)
+ * 스냅샷에 없는 조회(카테고리별 제품, 회사 전체 옵션, 색상)는 ETag와 같은 시점의 내용을 내려야 하므로
+ * replica 라우팅을 쓰더라도 primary에서 읽습니다. (ReplicaRouting.onPrimary)
  */
 @Slf4j
 @RestController
@@ -38,13 +56,23 @@ import java.util.stream.Collectors;
 @CrossOrigin(origins = "*")
 public class EstimateController {
 
+    /**
+     * 공개 카탈로그 조회 응답의 캐시 정책
+     * 사용자와 무관한 응답이라 CDN/공유 캐시에 저장해도 되지만(public), 매번 ETag로 재검증해야 한다(no-cache).
+     */
+    private static final CacheControl CATALOG_CACHE_CONTROL = CacheControl.noCache().cachePublic();
+
     private final EstimationService estimateService;
     private final EstimatePdfService estimatePdfService;
-    private final CategoryRepository categoryRepository;
     private final ProductRepository productRepository;
     private final OptionRepository optionRepository;
-    private final ProductVariantRepository productVariantRepository;
     private final ColorRepository colorRepository;
+    private final PricingCatalog pricingCatalog;
+    private final PriceCurveService priceCurveService;
+    private final ProductSearchIndex productSearchIndex;
+    private final ProductSuggester productSuggester;
+    private final CatalogBootstrapService catalogBootstrapService;
+    private final CatalogEtags catalogEtags;
 
     /**
      * 견적 계산 API
@@ -66,6 +94,24 @@ public class EstimateController {
         }
     }
 
+    /**
+     * 장바구니 일괄 견적 계산 API
+     * 항목마다 /estimates/calculate를 호출하는 대신 한 번의 요청으로 장바구니 전체를 계산합니다.
+     * 항목별 실패는 전체를 실패시키지 않고 해당 항목의 error로 반환됩니다.
+     * 항목 수가 app.estimate.batch.max-lines(기본 200)를 넘으면 400을 반환합니다.
+     * 
+     * @param requests 견적 요청 목록 (/estimates/calculate 요청 본문과 동일한 형식)
+     * @return 항목별 견적 결과와 장바구니 합계
+     */
+    @PostMapping("/estimates/calculate-batch")
+    public ResponseEntity<EstimateBatchResponse> calculateEstimateBatch(@RequestBody List<EstimateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new IllegalArgumentException("견적 요청 목록이 비어 있습니다.");
+        }
+        log.debug("일괄 견적 계산 요청: count={}", requests.size());
+        return ResponseEntity.ok(estimateService.calculateBatch(requests));
+    }
+
     /**
      * 서버 상태 확인 API (Health Check)
      * 
@@ -99,30 +145,57 @@ public class EstimateController {
         }
     }
 
+    /**
+     * 회사별 카탈로그 전체 조회 (견적 화면 첫 로딩용)
+     * 카테고리 트리, 제품, 규격, 옵션, 색상을 한 번에 반환합니다.
+     * 카탈로그 버전마다 미리 직렬화/압축해 둔 응답을 그대로 내려주며,
+     * Accept-Encoding에 gzip이 있으면 압축된 응답을, If-None-Match가 같으면 304를 반환합니다.
+     *
+     * @param companyId 회사 ID
+     * @return 카탈로그 JSON (CatalogBootstrapResponse)
+     */
+    @GetMapping("/catalog")
+    public ResponseEntity<byte[]> getCatalog(@RequestParam Long companyId,
+                                             @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+                                             WebRequest webRequest) {
+        CatalogBootstrapService.CatalogPayload payload = catalogBootstrapService.getPayload(companyId);
+        boolean gzip = acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip");
+        String etag = gzip ? payload.gzipEtag() : payload.etag();
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(etag)
+                .cacheControl(CATALOG_CACHE_CONTROL)
+                .varyBy(HttpHeaders.ACCEPT_ENCODING);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(payload.gzip());
+        }
+        return response.body(payload.json());
+    }
+
     /**
      * 메인 카테고리 목록 조회
-     * parent가 null인 최상위 카테고리만 반환합니다.
+     * parent가 null인 최상위 카테고리만 반환합니다. (카탈로그 스냅샷의 CategoryTree 사용, id 순서)
      * 
      * @param companyId 회사 ID (선택사항, 없으면 모든 메인 카테고리 조회)
      * @return 메인 카테고리 목록
      */
     @GetMapping("/categories")
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<CategoryResponse>> getCategories(@RequestParam(required = false) Long companyId) {
+    public ResponseEntity<List<CategoryResponse>> getCategories(@RequestParam(required = false) Long companyId,
+                                                                WebRequest webRequest) {
         log.debug("메인 카테고리 조회 요청: companyId={}", companyId);
+        CatalogSnapshot catalog = pricingCatalog.current();
+        String etag = catalogEtags.company(catalog, companyId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         try {
-            List<Category> categories = (companyId != null)
-                    ? categoryRepository.findMainCategoriesByCompanyId(companyId)
-                    : categoryRepository.findAll().stream()
-                            .filter(c -> c.getParent() == null)
-                            .collect(Collectors.toList());
-            
-            List<CategoryResponse> responses = categories.stream()
-                    .map(c -> new CategoryResponse(c.getId(), c.getName(), c.getCode()))
-                    .collect(Collectors.toList());
+            List<CategoryResponse> responses = toCategoryResponses(catalog.categoryTree().roots(companyId));
             
             log.info("메인 카테고리 조회 완료: companyId={}, count={}", companyId, responses.size());
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CATALOG_CACHE_CONTROL).body(responses);
         } catch (Exception e) {
             log.error("카테고리 조회 실패: companyId={}", companyId, e);
             throw e;
@@ -131,29 +204,59 @@ public class EstimateController {
     
     /**
      * 세부 카테고리 목록 조회
-     * 특정 부모 카테고리의 하위 카테고리들을 반환합니다.
+     * 특정 부모 카테고리의 하위 카테고리들을 반환합니다. (카탈로그 스냅샷의 CategoryTree 사용, id 순서)
      * 
      * @param parentId 부모 카테고리 ID
      * @return 세부 카테고리 목록
      */
     @GetMapping("/subcategories")
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<CategoryResponse>> getSubCategories(@RequestParam Long parentId) {
+    public ResponseEntity<List<CategoryResponse>> getSubCategories(@RequestParam Long parentId, WebRequest webRequest) {
         log.debug("세부 카테고리 조회 요청: parentId={}", parentId);
+        CatalogSnapshot catalog = pricingCatalog.current();
+        CatalogCategory parent = catalog.category(parentId);
+        String etag = catalogEtags.company(catalog, parent != null ? parent.companyId() : null);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         try {
-            List<Category> subCategories = categoryRepository.findByParentId(parentId);
-            List<CategoryResponse> responses = subCategories.stream()
-                    .map(c -> new CategoryResponse(c.getId(), c.getName(), c.getCode()))
-                    .collect(Collectors.toList());
+            List<CategoryResponse> responses = toCategoryResponses(catalog.categoryTree().children(parentId));
             
             log.info("세부 카테고리 조회 완료: parentId={}, count={}", parentId, responses.size());
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CATALOG_CACHE_CONTROL).body(responses);
         } catch (Exception e) {
             log.error("세부 카테고리 조회 실패: parentId={}", parentId, e);
             throw e;
         }
     }
 
+    /**
+     * 상위 카테고리 경로 조회 (메인 카테고리부터 자신까지, 화면 경로 표시용)
+     *
+     * @param id 카테고리 ID
+     * @return 메인 카테고리 → … → 해당 카테고리
+     */
+    @GetMapping("/categories/{id}/path")
+    public ResponseEntity<List<CategoryResponse>> getCategoryPath(@PathVariable Long id, WebRequest webRequest) {
+        CatalogSnapshot catalog = pricingCatalog.current();
+        CategoryTree.Node node = catalog.categoryTree().node(id);
+        if (node == null) {
+            throw new IllegalArgumentException("카테고리가 존재하지 않습니다.");
+        }
+        String etag = catalogEtags.company(catalog, node.category().companyId());
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        List<CategoryTree.Node> path = new ArrayList<>(node.ancestors());
+        path.add(node);
+        return ResponseEntity.ok().eTag(etag).cacheControl(CATALOG_CACHE_CONTROL).body(toCategoryResponses(path));
+    }
+
+    private static List<CategoryResponse> toCategoryResponses(List<CategoryTree.Node> nodes) {
+        return nodes.stream()
+                .map(n -> new CategoryResponse(n.id(), n.category().name(), n.category().code()))
+                .collect(Collectors.toList());
+    }
+
     /**
      * 카테고리별 제품 목록 조회
      * 메인 카테고리인 경우 하위 세부 카테고리의 제품도 함께 조회합니다.
@@ -162,11 +265,17 @@ public class EstimateController {
      * @return 제품 목록
      */
     @GetMapping("/products")
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<ProductResponse>> getProducts(@RequestParam Long categoryId) {
+    public ResponseEntity<List<ProductResponse>> getProducts(@RequestParam Long categoryId, WebRequest webRequest) {
         log.debug("제품 조회 요청: categoryId={}", categoryId);
+        CatalogSnapshot catalog = pricingCatalog.current();
+        CatalogCategory category = catalog.category(categoryId);
+        String etag = catalogEtags.company(catalog, category != null ? category.companyId() : null);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         try {
-            List<Product> products = productRepository.findByCategoryIdOrParentCategoryId(categoryId);
+            List<Product> products = ReplicaRouting.onPrimary(
+                    () -> productRepository.findByCategoryIdOrParentCategoryId(categoryId));
             List<ProductResponse> responses = products.stream()
                     .map(p -> {
                         ProductResponse.CategoryInfo categoryInfo = new ProductResponse.CategoryInfo(
@@ -190,77 +299,122 @@ public class EstimateController {
                     .collect(Collectors.toList());
             
             log.info("제품 조회 완료: categoryId={}, count={}", categoryId, responses.size());
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CATALOG_CACHE_CONTROL).body(responses);
         } catch (Exception e) {
             log.error("제품 조회 실패: categoryId={}", categoryId, e);
             throw e;
         }
     }
 
+    /**
+     * 매트릭스 가격 제품의 가격 곡선 조회 (가로 구간 → 가격, 세로 구간별 가격)
+     * 가로/세로를 바꿀 때마다 견적 계산을 호출하지 않고 프론트엔드에서 가격을 표시할 수 있습니다.
+     * 제품 가격 데이터 리비전 기반 ETag를 내려주며, If-None-Match가 같으면 304를 반환합니다.
+     * 
+     * @param id 제품 ID
+     * @param optionName 매트릭스 옵션명 (예: 미닫이 (80바), 옵션이 하나뿐이면 생략 가능)
+     * @return 가격 곡선
+     */
+    @GetMapping("/products/{id}/price-curve")
+    public ResponseEntity<PriceCurveResponse> getPriceCurve(@PathVariable Long id,
+                                                            @RequestParam(required = false) String optionName,
+                                                            WebRequest webRequest) {
+        PriceCurveService.PriceCurve curve = priceCurveService.getCurve(id, optionName);
+        if (webRequest.checkNotModified(curve.etag())) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(curve.etag())
+                .cacheControl(CacheControl.noCache())
+                .body(curve.body());
+    }
+
     /**
      * 견적용 제품 검색 (상세 견적 계산기 위 검색용, 공개 API)
-     * 키워드로 제품명/설명 검색, 선택적으로 회사 필터.
+     * 키워드로 제품명/설명/규격/카테고리명 검색 (초성 검색 가능), 선택적으로 회사 필터.
+     * 메모리 검색 인덱스(ProductSearchIndex)와 카탈로그 스냅샷만 사용하며 관련도 순으로 반환합니다.
      */
     @GetMapping("/products/search")
-    @Transactional(readOnly = true)
     public ResponseEntity<List<ProductSearchItemDto>> searchProducts(
             @RequestParam(required = false) String keyword,
             @RequestParam(required = false) Long companyId) {
-        String q = (keyword != null && keyword.isBlank()) ? null : keyword;
-        List<Product> products = productRepository.searchForAdmin(q, companyId, null);
-        List<ProductSearchItemDto> list = products.stream()
+        CatalogSnapshot catalog = pricingCatalog.current();
+        List<ProductSearchItemDto> list = productSearchIndex.search(keyword, companyId, null).stream()
+                .map(catalog::product)
+                .filter(Objects::nonNull)
                 .map(p -> {
-                    Category c = p.getCategory();
-                    Long parentId = (c.getParent() != null) ? c.getParent().getId() : null;
-                    Long compId = p.getCompany() != null ? p.getCompany().getId() : null;
-                    String compName = p.getCompany() != null ? p.getCompany().getName() : null;
+                    CatalogCategory c = catalog.category(p.categoryId());
+                    CatalogCompany company = catalog.company(p.companyId());
                     return new ProductSearchItemDto(
-                            p.getId(),
-                            p.getName(),
-                            c.getId(),
-                            c.getName(),
-                            c.getCode(),
-                            parentId,
-                            compId,
-                            compName,
-                            p.getSize()
+                            p.id(),
+                            p.name(),
+                            p.categoryId(),
+                            c != null ? c.name() : null,
+                            c != null ? c.code() : null,
+                            c != null ? c.parentId() : null,
+                            p.companyId(),
+                            company != null ? company.name() : null,
+                            p.size()
                     );
                 })
                 .collect(Collectors.toList());
         return ResponseEntity.ok(list);
     }
 
+    /**
+     * 검색창 자동완성 (공개 API)
+     * 접두어로 시작하는 카테고리명/제품명/규격명을 반환합니다. (초성, 입력 중인 음절 가능)
+     * 메모리 트라이(ProductSuggester)만 사용하며 DB를 조회하지 않습니다.
+     */
+    @GetMapping("/products/suggest")
+    public ResponseEntity<List<ProductSuggestionDto>> suggestProducts(
+            @RequestParam String prefix,
+            @RequestParam(required = false) Long companyId,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > SuggestionTrie.MAX_LIMIT) {
+            throw new IllegalArgumentException("limit은 1 ~ " + SuggestionTrie.MAX_LIMIT + " 사이여야 합니다.");
+        }
+        List<ProductSuggestionDto> list = productSuggester.suggest(prefix, companyId, limit).stream()
+                .map(s -> new ProductSuggestionDto(s.text(), s.type(), s.id()))
+                .collect(Collectors.toList());
+        return ResponseEntity.ok(list);
+    }
+
     /**
      * 옵션 목록 조회
-     * 제품별 옵션과 카테고리 공통 옵션을 합쳐서 반환합니다.
+     * 제품별 옵션과 카테고리 공통 옵션, 회사 전체 공통 옵션을 합쳐서 반환합니다.
      * 제품별 옵션이 있으면 우선 적용됩니다.
+     * productId가 있으면 카탈로그 스냅샷에 제품별로 미리 계산된 목록을 사용하므로 DB를 조회하지 않습니다.
      * 
      * @param productId 제품 ID (선택사항)
      * @param companyId 회사 ID
      * @return 옵션 목록
      */
     @GetMapping("/options")
-    @Transactional(readOnly = true)
     public ResponseEntity<List<OptionResponse>> getOptions(
             @RequestParam(required = false) Long productId,
-            @RequestParam Long companyId) {
+            @RequestParam Long companyId,
+            WebRequest webRequest) {
         log.debug("옵션 조회 요청: productId={}, companyId={}", productId, companyId);
+        // 제품 옵션 목록은 카테고리 공통 옵션도 포함하므로 제품 리비전이 아닌 회사 버전을 사용
+        String etag = catalogEtags.company(pricingCatalog.current(), companyId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         try {
-            List<Option> options;
+            List<OptionResponse> responses;
             
             if (productId != null) {
-                options = getOptionsForProduct(productId, companyId);
+                responses = getOptionsForProduct(productId, companyId);
             } else {
                 // 전체 옵션 조회 (기존 호환성 유지)
-                options = optionRepository.findByCompanyId(companyId);
+                responses = ReplicaRouting.onPrimary(() -> optionRepository.findByCompanyId(companyId)).stream()
+                        .map(this::mapToOptionResponse)
+                        .collect(Collectors.toList());
             }
             
-            List<OptionResponse> responses = options.stream()
-                    .map(this::mapToOptionResponse)
-                    .collect(Collectors.toList());
-            
             log.info("옵션 조회 완료: productId={}, companyId={}, count={}", productId, companyId, responses.size());
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CATALOG_CACHE_CONTROL).body(responses);
         } catch (Exception e) {
             log.error("옵션 조회 실패: productId={}, companyId={}", productId, companyId, e);
             throw e;
@@ -268,82 +422,28 @@ public class EstimateController {
     }
     
     /**
-     * 제품별 옵션 조회 (제품별 옵션 + 카테고리 공통 옵션)
-     */
-    private List<Option> getOptionsForProduct(Long productId, Long companyId) {
-        log.debug("제품별 옵션 조회: productId={}", productId);
-        
-        // 제품별 옵션 조회
-        List<Option> productOptions = optionRepository.findByProductId(productId);
-        log.debug("제품별 옵션 조회 완료: productId={}, count={}", productId, productOptions.size());
-        
-        // 제품의 카테고리 정보 가져오기
-        Product product = productRepository.findByIdWithCategoryAndParent(productId)
-                .orElseThrow(() -> new IllegalArgumentException("제품이 존재하지 않습니다."));
-        
-        // 카테고리 계층 구조에서 옵션 조회
-        List<Option> categoryOptions = getCategoryOptions(product, companyId);
-        
-        // 제품별 옵션과 카테고리 공통 옵션 합치기
-        List<Option> allOptions = new java.util.ArrayList<>(productOptions);
-        allOptions.addAll(categoryOptions);
-        
-        // 중복 제거 (같은 이름의 옵션이 있으면 제품별 옵션 우선)
-        return allOptions.stream()
-                .collect(java.util.stream.Collectors.toMap(
-                        Option::getName,
-                        opt -> opt,
-                        (existing, replacement) -> existing,
-                        java.util.LinkedHashMap::new
-                ))
-                .values()
-                .stream()
-                .sorted((a, b) -> Long.compare(a.getId(), b.getId()))
-                .collect(java.util.stream.Collectors.toList());
-    }
-    
-    /**
-     * 카테고리 계층 구조에서 공통 옵션 조회
+     * 제품별 옵션 조회 (제품별 옵션 + 카테고리 계층 공통 옵션 + 회사 전체 공통 옵션, EffectiveOptionIndex)
      */
-    private List<Option> getCategoryOptions(Product product, Long companyId) {
-        List<Option> categoryOptions = new java.util.ArrayList<>();
-        List<Long> categoryIds = collectCategoryIds(product.getCategory());
-        
-        for (Long categoryId : categoryIds) {
-            List<Option> optionsForCategory = optionRepository
-                    .findByCompanyIdAndCategoryIdAndProductIsNull(companyId, categoryId);
-            categoryOptions.addAll(optionsForCategory);
-            log.debug("카테고리 공통 옵션 조회: categoryId={}, count={}", categoryId, optionsForCategory.size());
+    private List<OptionResponse> getOptionsForProduct(Long productId, Long companyId) {
+        CatalogSnapshot catalog = pricingCatalog.current();
+        CatalogProduct product = catalog.product(productId);
+        if (product == null) {
+            throw new IllegalArgumentException("제품이 존재하지 않습니다.");
         }
-        
-        return categoryOptions;
-    }
-    
-    /**
-     * 카테고리 계층 구조에서 모든 카테고리 ID 수집
-     * Category의 parent가 Lazy Loading이므로 세션이 유지되어야 합니다.
-     */
-    private List<Long> collectCategoryIds(Category category) {
-        List<Long> categoryIds = new java.util.ArrayList<>();
-        Category current = category;
-        
-        while (current != null) {
-            categoryIds.add(current.getId());
-            // parent가 프록시인 경우 초기화를 위해 getId()를 먼저 호출
-            Category parent = current.getParent();
-            if (parent != null) {
-                // 프록시 초기화를 위해 getId() 호출
-                parent.getId();
-            }
-            current = parent;
-        }
-        
-        return categoryIds;
+        return catalog.effectiveOptions(product, companyId).stream()
+                .map(o -> {
+                    CatalogCategory category = catalog.category(o.categoryId());
+                    OptionResponse.CategoryInfo categoryInfo = category != null
+                            ? new OptionResponse.CategoryInfo(category.id(), category.name(), category.code())
+                            : null;
+                    return new OptionResponse(o.id(), o.name(), o.addPrice(), categoryInfo);
+                })
+                .collect(Collectors.toList());
     }
     
     /**
      * Option 엔티티를 OptionResponse DTO로 변환
-     * Category가 Lazy Loading이므로 세션이 유지되어야 합니다.
+     * Category는 OptionRepository.findByCompanyId에서 함께 조회(JOIN FETCH)되어 있어야 합니다.
      */
     private OptionResponse mapToOptionResponse(Option opt) {
         OptionResponse.CategoryInfo categoryInfo = null;
@@ -368,28 +468,33 @@ public class EstimateController {
     /**
      * 제품별 variants 목록 조회
      * 제품의 규격(spec)과 타입(type) 정보를 반환합니다.
+     * 견적 계산과 같은 카탈로그 스냅샷의 규격 인덱스에서 조회하므로 DB를 조회하지 않습니다.
      * 
      * @param productId 제품 ID
      * @return 제품 variants 목록
      */
     @GetMapping("/variants")
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<ProductVariantResponse>> getVariants(@RequestParam Long productId) {
+    public ResponseEntity<List<ProductVariantResponse>> getVariants(@RequestParam Long productId, WebRequest webRequest) {
         log.debug("Variants 조회 요청: productId={}", productId);
+        CatalogSnapshot catalog = pricingCatalog.current();
+        String etag = catalogEtags.product(catalog, productId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         try {
-            List<ProductVariant> variants = productVariantRepository.findByProductId(productId);
+            List<CatalogVariant> variants = catalog.variants(productId);
             List<ProductVariantResponse> responses = variants.stream()
                     .map(v -> new ProductVariantResponse(
-                            v.getId(),
-                            v.getSpecName(),
-                            v.getTypeName(),
-                            v.getPrice(),
-                            v.getNote()
+                            v.id(),
+                            v.specName(),
+                            v.typeName(),
+                            v.price(),
+                            v.note()
                     ))
                     .collect(Collectors.toList());
             
             log.info("Variants 조회 완료: productId={}, count={}", productId, responses.size());
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CATALOG_CACHE_CONTROL).body(responses);
         } catch (Exception e) {
             log.error("Variants 조회 실패: productId={}", productId, e);
             throw e;
@@ -403,11 +508,15 @@ public class EstimateController {
      * @return 색상 목록
      */
     @GetMapping("/colors")
-    @Transactional(readOnly = true)
-    public ResponseEntity<List<ColorResponse>> getColors(@RequestParam Long companyId) {
+    public ResponseEntity<List<ColorResponse>> getColors(@RequestParam Long companyId, WebRequest webRequest) {
         log.debug("색상 조회 요청: companyId={}", companyId);
+        // 색상은 관리자 화면에서 수정하지 않으므로 회사 버전(재시작 시 바뀜)으로 충분
+        String etag = catalogEtags.company(pricingCatalog.current(), companyId);
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
         try {
-            List<Color> colors = colorRepository.findByCompanyId(companyId);
+            List<Color> colors = ReplicaRouting.onPrimary(() -> colorRepository.findByCompanyId(companyId));
             List<ColorResponse> responses = colors.stream()
                     .map(c -> {
                         ColorResponse.CompanyInfo companyInfo = new ColorResponse.CompanyInfo(
@@ -426,7 +535,7 @@ public class EstimateController {
                     .collect(Collectors.toList());
             
             log.info("색상 조회 완료: companyId={}, count={}", companyId, responses.size());
-            return ResponseEntity.ok(responses);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CATALOG_CACHE_CONTROL).body(responses);
         } catch (Exception e) {
             log.error("색상 조회 실패: companyId={}", companyId, e);
             throw e;
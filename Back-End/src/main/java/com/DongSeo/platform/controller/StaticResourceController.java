@@ -1,45 +1,241 @@
 package com.DongSeo.platform.controller;
 
+import com.DongSeo.platform.util.PrecompressedAsset;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.ClassPathResource;
-import org.springframework.core.io.Resource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
- * 정적 리소스 제공 컨트롤러 (디버깅용)
- * Spring Boot의 기본 정적 리소스 핸들러가 작동하지 않을 때 사용
+ * 정적 리소스 제공 컨트롤러 (PDF용 한글 폰트 JS)
+ *
+ * NanumGothic-normal.js는 수 MB라서 기동 시 한 번 읽어 gzip(빌드 시 만든 .br이 있으면 brotli 포함)으로 압축해 두고
+ * Accept-Encoding에 맞는 파일을 톰캣 sendfile(지원하지 않으면 FileChannel.transferTo)로 보낸다.
+ * 파일은 app.static-assets.dir에 두며, 실행 중에 지워졌으면 요청 시 다시 만든다.
+ * - /NanumGothic-normal.js: 기존 URL. 1시간 캐시 후 ETag로 재검증 (배포로 내용이 바뀔 수 있음)
+ * - /NanumGothic-normal.{지문}.js: 내용 해시가 들어간 URL. 내용이 바뀌면 URL이 바뀌므로 1년 immutable 캐시
+ * - /api/assets: 파일 이름 → 지문 URL 목록. 프론트엔드는 여기서 지문 URL을 받아 폰트를 요청한다.
+ * Range 요청(단일 구간, If-Range)을 지원한다.
  */
 @Slf4j
 @RestController
 public class StaticResourceController {
 
-    @GetMapping("/NanumGothic-normal.js")
-    public ResponseEntity<Resource> getNanumGothicFont() {
+    private static final String FONT_NAME = "NanumGothic-normal.js";
+    private static final String FONT_RESOURCE = "static/" + FONT_NAME;
+    private static final String FONT_CONTENT_TYPE = "application/javascript; charset=UTF-8";
+
+    private static final CacheControl REVALIDATE_HOURLY = CacheControl.maxAge(Duration.ofHours(1)).cachePublic();
+    private static final CacheControl IMMUTABLE = CacheControl.maxAge(Duration.ofDays(365)).cachePublic().immutable();
+
+    // 톰캣 sendfile 요청 속성 (org.apache.coyote.Constants)
+    private static final String SENDFILE_SUPPORTED = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final Path assetDirectory;
+    /** 변형 파일이 지워졌을 때 다시 만드는 작업 직렬화 (파일 쓰기 중 가상 스레드를 고정하지 않는 ReentrantLock) */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    private volatile PrecompressedAsset font;
+
+    public StaticResourceController(@Value("${app.static-assets.dir}") String assetDirectory) {
+        this.assetDirectory = Path.of(assetDirectory);
+        this.font = loadFont();
+    }
+
+    private PrecompressedAsset loadFont() {
         try {
-            ClassPathResource resource = new ClassPathResource("static/NanumGothic-normal.js");
-            
-            if (!resource.exists()) {
-                log.error("NanumGothic-normal.js 파일을 찾을 수 없습니다. 경로: static/NanumGothic-normal.js");
-                return ResponseEntity.notFound().build();
+            PrecompressedAsset asset = PrecompressedAsset.load(FONT_RESOURCE, FONT_CONTENT_TYPE, assetDirectory);
+            if (asset == null) {
+                log.warn("NanumGothic-normal.js 파일을 찾을 수 없습니다. 경로: {}", FONT_RESOURCE);
             }
-            
-            log.info("NanumGothic-normal.js 파일 제공: {} bytes", resource.contentLength());
-            
-            return ResponseEntity.ok()
-                    .header(HttpHeaders.CONTENT_TYPE, "application/javascript; charset=UTF-8")
-                    .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"NanumGothic-normal.js\"")
-                    .header(HttpHeaders.CACHE_CONTROL, "public, max-age=3600")
-                    .body(resource);
-                    
+            return asset;
         } catch (IOException e) {
-            log.error("NanumGothic-normal.js 파일 읽기 실패", e);
-            return ResponseEntity.internalServerError().build();
+            log.error("NanumGothic-normal.js 파일 준비 실패: dir={}", assetDirectory, e);
+            return null;
+        }
+    }
+
+    /**
+     * 현재 폰트 (변형 파일이 지워졌으면 다시 만듦)
+     */
+    private PrecompressedAsset currentFont() {
+        PrecompressedAsset current = font;
+        if (current == null || current.filesPresent()) {
+            return current;
+        }
+        reloadLock.lock();
+        try {
+            if (!font.filesPresent()) {
+                log.warn("정적 파일이 지워져 다시 만듭니다: dir={}", assetDirectory);
+                PrecompressedAsset reloaded = loadFont();
+                if (reloaded != null) {
+                    font = reloaded;
+                }
+            }
+            return font;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 정적 파일 목록 (파일 이름 → 지문 URL)
+     * 지문 URL은 영구 캐시되므로, 목록 자체는 매번 재검증한다. (배포로 지문이 바뀌면 새 URL을 받음)
+     */
+    @GetMapping("/api/assets")
+    public ResponseEntity<Map<String, String>> getAssetManifest(WebRequest webRequest) {
+        PrecompressedAsset current = font;
+        if (current == null) {
+            return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(Map.of());
+        }
+        String etag = "\"" + current.fingerprint() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(CacheControl.noCache().cachePublic())
+                .body(Map.of(FONT_NAME, "/NanumGothic-normal." + current.fingerprint() + ".js"));
+    }
+
+    @GetMapping("/NanumGothic-normal.js")
+    public void getNanumGothicFont(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        serve(REVALIDATE_HOURLY, request, response);
+    }
+
+    @GetMapping("/NanumGothic-normal.{fingerprint}.js")
+    public void getFingerprintedNanumGothicFont(@PathVariable String fingerprint,
+                                                HttpServletRequest request,
+                                                HttpServletResponse response) throws IOException {
+        PrecompressedAsset current = font;
+        if (current == null || !current.fingerprint().equals(fingerprint)) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        serve(IMMUTABLE, request, response);
+    }
+
+    private void serve(CacheControl cacheControl, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        PrecompressedAsset asset = currentFont();
+        if (asset == null) {
+            response.sendError(HttpStatus.NOT_FOUND.value());
+            return;
+        }
+        PrecompressedAsset.Variant variant = asset.negotiate(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        long length = variant.length();
+
+        response.setHeader(HttpHeaders.ETAG, variant.etag());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl.getHeaderValue());
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=\"NanumGothic-normal.js\"");
+        response.setHeader("X-Content-Fingerprint", asset.fingerprint());
+        if (asset.hasCompressedVariants()) {
+            response.setHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+
+        if (etagMatches(request.getHeader(HttpHeaders.IF_NONE_MATCH), variant.etag(), true)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        response.setContentType(asset.contentType());
+        if (!variant.isIdentity()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, variant.encoding());
+        }
+
+        long start = 0;
+        long end = length;   // 미포함
+        String range = request.getHeader(HttpHeaders.RANGE);
+        String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (range != null && (ifRange == null || etagMatches(ifRange, variant.etag(), false))) {
+            List<HttpRange> ranges;
+            try {
+                ranges = HttpRange.parseRanges(range);
+            } catch (IllegalArgumentException e) {
+                ranges = List.of();   // 형식이 잘못된 Range는 무시하고 전체 전송
+            }
+            // 여러 구간 요청은 multipart 대신 전체를 보낸다 (RFC 9110에서 허용)
+            if (ranges.size() == 1) {
+                try {
+                    start = ranges.get(0).getRangeStart(length);
+                    end = ranges.get(0).getRangeEnd(length) + 1;
+                } catch (IllegalArgumentException e) {
+                    response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + length);
+                    response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                    return;
+                }
+                response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (end - 1) + "/" + length);
+            }
+        }
+        response.setContentLengthLong(end - start);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+        transfer(variant, start, end, request, response);
+    }
+
+    /**
+     * 파일 구간 전송: 톰캣 sendfile 지원 시 컨테이너가 소켓으로 바로 보내고, 아니면 FileChannel.transferTo 사용
+     */
+    private static void transfer(PrecompressedAsset.Variant variant, long start, long end,
+                                 HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED))) {
+            request.setAttribute(SENDFILE_FILENAME, variant.path().toRealPath().toString());
+            request.setAttribute(SENDFILE_START, start);
+            request.setAttribute(SENDFILE_END, end);
+            return;
+        }
+        try (FileChannel channel = FileChannel.open(variant.path(), StandardOpenOption.READ)) {
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = start;
+            while (position < end) {
+                position += channel.transferTo(position, end - position, out);
+            }
+        }
+    }
+
+    /**
+     * If-None-Match(약한 비교) / If-Range(강한 비교) 값이 ETag와 일치하는지
+     */
+    private static boolean etagMatches(String header, String etag, boolean weak) {
+        if (header == null) {
+            return false;
+        }
+        if (weak && header.trim().equals("*")) {
+            return true;
+        }
+        for (String candidate : header.split(",")) {
+            String value = candidate.trim();
+            if (weak && value.startsWith("W/")) {
+                value = value.substring(2);
+            }
+            if (value.equals(etag)) {
+                return true;
+            }
         }
+        return false;
     }
 }
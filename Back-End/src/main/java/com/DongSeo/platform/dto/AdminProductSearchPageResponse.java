@@ -0,0 +1,20 @@
+package com.DongSeo.platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 관리자 제품 검색 결과 페이지 (keyset 페이지네이션)
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 그대로 넘겨 조회한다. (키워드 없음: id, 키워드: "점수:id")
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AdminProductSearchPageResponse {
+    private List<AdminProductSearchResponse> items;
+    private String nextCursor; // 마지막 페이지면 null
+    private int size;          // 요청한 페이지 크기
+}
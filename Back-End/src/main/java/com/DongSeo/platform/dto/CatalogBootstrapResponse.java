@@ -0,0 +1,38 @@
+package com.DongSeo.platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회사별 카탈로그 전체 (견적 화면 첫 로딩용)
+ * /api/categories, /api/subcategories, /api/products, /api/options, /api/variants, /api/colors 응답을 한 번에 담는다.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CatalogBootstrapResponse {
+    private Long companyId;
+    private String companyName;
+    private String companyCode;
+    private long version;                               // 회사 카탈로그 버전 (바뀌면 다시 받아야 함)
+    private List<CategoryNode> categories;              // 메인 카테고리 (하위 카테고리는 children)
+    private List<ProductResponse> products;
+    private Map<Long, List<ProductVariantResponse>> variants;  // productId → 규격 목록
+    private List<OptionResponse> options;               // 회사 전체 옵션 (/api/options?companyId=)
+    private Map<Long, List<Long>> productOptionIds;     // productId → 적용 옵션 ID (/api/options?productId=, 회사 전체 공통 옵션 포함)
+    private List<ColorResponse> colors;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CategoryNode {
+        private Long id;
+        private String name;
+        private String code;
+        private List<CategoryNode> children;
+    }
+}
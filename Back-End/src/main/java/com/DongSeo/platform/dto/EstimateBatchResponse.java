@@ -0,0 +1,32 @@
+package com.DongSeo.platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 장바구니 일괄 견적 결과
+ * 항목별 결과(성공 시 estimate, 실패 시 error)와 장바구니 합계
+ */
+@Data
+@Builder
+public class EstimateBatchResponse {
+    private List<Line> lines;
+    private long totalPrice;        // 성공한 항목의 최종 금액 합계
+    private int successCount;
+    private int errorCount;
+    private long catalogVersion;    // 계산에 사용한 카탈로그 스냅샷 버전
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Line {
+        private int index;                  // 요청 목록에서의 순서 (0부터)
+        private Long productId;
+        private EstimateResponse estimate;  // 실패 시 null
+        private String error;               // 성공 시 null
+    }
+}
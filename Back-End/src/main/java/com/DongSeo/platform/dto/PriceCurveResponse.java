@@ -0,0 +1,50 @@
+package com.DongSeo.platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 매트릭스 가격 제품의 가격 곡선 (가로 구간 → 가격, 세로 구간이 있으면 구간별 가격)
+ * 프론트엔드에서 가로/세로 입력이 바뀔 때 서버 호출 없이 가격을 표시하는 용도
+ */
+@Data
+@Builder
+public class PriceCurveResponse {
+    private Long productId;
+    private String productName;
+    private String optionName;
+    private List<String> optionNames;   // 이 제품에서 선택할 수 있는 매트릭스 옵션명
+    private long revision;              // 제품 가격 데이터 리비전 (ETag와 동일한 값)
+    private boolean heightBanded;       // 세로 구간별로 가격이 다른지
+    private List<WidthBand> widthBands; // maxWidth 오름차순
+
+    /**
+     * 가로 구간: minWidth <= width <= maxWidth
+     * price는 세로를 입력하지 않았을 때의 가격 (가장 낮은 세로 구간)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class WidthBand {
+        private int minWidth;
+        private int maxWidth;
+        private int price;
+        private List<HeightBand> heightBands; // heightBanded가 false이면 null
+    }
+
+    /**
+     * 세로 구간: minHeight <= height <= maxHeight (maxHeight가 null이면 제한 없음)
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class HeightBand {
+        private int minHeight;
+        private Integer maxHeight;
+        private int price;
+    }
+}
@@ -0,0 +1,34 @@
+package com.DongSeo.platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 가격표(CSV/TSV) 일괄 등록 결과
+ * 오류 행은 전체 개수를 세고, 목록은 앞에서부터 일부만 담는다.
+ */
+@Data
+@Builder
+public class PriceSheetImportResponse {
+    private String target;          // price-matrix / variants
+    private int totalRows;          // 헤더 제외 데이터 행 수
+    private int insertedCount;
+    private int updatedCount;
+    private int errorCount;
+    private boolean errorsTruncated; // errors 목록이 잘렸는지
+    private List<RowError> errors;
+    private Integer stoppedAtLine;  // 레코드를 더 읽을 수 없어 중단한 행 (끝까지 읽었으면 null, 이 행 앞까지는 저장됨)
+    private long elapsedMs;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RowError {
+        private int line;           // 파일의 행 번호 (헤더가 1행)
+        private String message;
+    }
+}
@@ -0,0 +1,17 @@
+package com.DongSeo.platform.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 검색창 자동완성 항목 한 건
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ProductSuggestionDto {
+    private String text;
+    private String type;   // CATEGORY, PRODUCT, SPEC
+    private Long id;       // 카테고리/제품 ID (SPEC은 null)
+}
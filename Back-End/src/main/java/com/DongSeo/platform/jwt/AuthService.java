@@ -2,11 +2,15 @@ package com.DongSeo.platform.jwt;
 
 import com.DongSeo.platform.domain.User;
 import com.DongSeo.platform.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+
 @Service
 @RequiredArgsConstructor
 public class AuthService {
@@ -14,6 +18,7 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
 
     @Value("${jwt.expiration-ms:86400000}")
     private long expirationMs; // 기본 24시간
@@ -21,15 +26,33 @@ public class AuthService {
     /**
      * 로그인: username/password 검증 후 JWT 발급.
      * 계정은 관리자가 생성·부여 (회원가입 없음).
+     * 처리 시간은 auth.login{outcome} 지표로 남긴다. (outcome: success / unknown_user / bad_password / error)
      */
     public String login(String username, String password) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new IllegalArgumentException("사용자 없음 또는 비밀번호 오류"));
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            User user = userRepository.findByUsername(username).orElse(null);
+            if (user == null) {
+                outcome = "unknown_user";
+                throw new IllegalArgumentException("사용자 없음 또는 비밀번호 오류");
+            }
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
-            throw new IllegalArgumentException("사용자 없음 또는 비밀번호 오류");
-        }
+            if (!passwordEncoder.matches(password, user.getPassword())) {
+                outcome = "bad_password";
+                throw new IllegalArgumentException("사용자 없음 또는 비밀번호 오류");
+            }
 
-        return jwtUtil.createToken(user.getUsername(), user.getRole(), expirationMs);
+            String token = jwtUtil.createToken(user.getUsername(), user.getRole(), expirationMs);
+            outcome = "success";
+            return token;
+        } finally {
+            Timer.builder("auth.login")
+                    .description("로그인 처리 시간 (비밀번호 해시 비교 포함)")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
     }
 }
@@ -1,22 +1,36 @@
 package com.DongSeo.platform.jwt;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
-@RequiredArgsConstructor
 public class JwtFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
+    // 토큰 검증 결과별 횟수 (auth.jwt.validations{result}), 요청마다 조회하지 않도록 미리 등록
+    private final Map<JwtUtil.TokenStatus, Counter> validations = new EnumMap<>(JwtUtil.TokenStatus.class);
+
+    public JwtFilter(JwtUtil jwtUtil, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        for (JwtUtil.TokenStatus status : JwtUtil.TokenStatus.values()) {
+            validations.put(status, Counter.builder("auth.jwt.validations")
+                    .description("JWT 검증 결과별 횟수")
+                    .tag("result", status.name().toLowerCase())
+                    .register(meterRegistry));
+        }
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -45,7 +59,9 @@ public class JwtFilter extends OncePerRequestFilter {
         String token = parts[1];
 
         // 3. 토큰 유효성 검증
-        if (!jwtUtil.validateToken(token)) {
+        JwtUtil.TokenStatus status = jwtUtil.checkToken(token);
+        validations.get(status).increment();
+        if (status != JwtUtil.TokenStatus.VALID) {
             filterChain.doFilter(request, response);
             return;
         }
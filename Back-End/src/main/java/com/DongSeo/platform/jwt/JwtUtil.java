@@ -38,14 +38,27 @@ public class JwtUtil {
     }
 
     public boolean validateToken(String token) {
+        return checkToken(token) == TokenStatus.VALID;
+    }
+
+    /**
+     * 토큰 검증 결과 (지표용으로 만료와 그 외 실패를 구분)
+     */
+    public TokenStatus checkToken(String token) {
         try {
             Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (ExpiredJwtException | SignatureException | MalformedJwtException | IllegalArgumentException e) {
-            return false;
+            return TokenStatus.VALID;
+        } catch (ExpiredJwtException e) {
+            return TokenStatus.EXPIRED;
+        } catch (SignatureException | MalformedJwtException | IllegalArgumentException e) {
+            return TokenStatus.INVALID;
         }
     }
 
+    public enum TokenStatus {
+        VALID, EXPIRED, INVALID
+    }
+
     private Claims parseClaims(String token) {
         return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
     }
@@ -1,5 +1,6 @@
 package com.DongSeo.platform.jwt;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -23,6 +24,7 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
+    private final MeterRegistry meterRegistry;
     
     @Value("${cors.allowed-origins:}")
     private String allowedOrigins;
@@ -36,17 +38,19 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         // 정적 리소스 먼저 허용 (순서 중요!)
-                        .requestMatchers("/NanumGothic-normal.js", "/static/**", "/**/*.js", "/**/*.css", "/**/*.png", "/**/*.jpg", "/**/*.svg", "/**/*.ico", "/**/*.woff", "/**/*.ttf").permitAll()
+                        .requestMatchers("/NanumGothic-normal.js", "/NanumGothic-normal.*.js", "/static/**", "/**/*.js", "/**/*.css", "/**/*.png", "/**/*.jpg", "/**/*.svg", "/**/*.ico", "/**/*.woff", "/**/*.ttf").permitAll()
                         // API 엔드포인트
                         .requestMatchers("/api/auth/**", "/error").permitAll()
-                        .requestMatchers("/api/estimates/**", "/api/products/**", "/api/categories/**", "/api/subcategories/**", "/api/options/**", "/api/variants/**", "/api/colors/**").permitAll()
+                        .requestMatchers("/api/estimates/**", "/api/products/**", "/api/categories/**", "/api/subcategories/**", "/api/options/**", "/api/variants/**", "/api/colors/**", "/api/catalog/**", "/api/assets").permitAll()
                         .requestMatchers("/ai-api/**").permitAll()  // AI 서버 프록시 경로 (인증 없이 통과)
+                        // 지표 수집 (management.server.port 별도 포트에서만 열림, 외부에 포트를 노출하지 않을 것)
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/admin/companies").permitAll()  // 제품 추가 폼 회사 목록 (드롭다운용)
                         .requestMatchers("/api/admin/**").hasAnyRole("STAFF", "ADMIN")
                         // 나머지는 인증 필요
                         .anyRequest().authenticated()
                 )
-                .addFilterBefore(new JwtFilter(jwtUtil), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtFilter(jwtUtil, meterRegistry), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
@@ -88,7 +92,7 @@ public class SecurityConfig {
         // 주의: addAllowedOriginPattern("*")와 setAllowCredentials(true)는 함께 사용 불가
         // JWT는 Authorization 헤더에 있으므로 credentials 불필요
         configuration.setAllowCredentials(false);
-        configuration.setExposedHeaders(Arrays.asList("Authorization")); // 헤더 노출 허용
+        configuration.setExposedHeaders(Arrays.asList("Authorization", "ETag", "X-Query-Count", "X-Query-Time-Ms")); // 헤더 노출 허용 (ETag: 카탈로그 재검증용, X-Query-*: 개발 환경 SQL 통계)
 
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
         source.registerCorsConfiguration("/**", configuration);
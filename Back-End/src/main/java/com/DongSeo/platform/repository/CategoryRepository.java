@@ -10,12 +10,6 @@ import java.util.List;
 public interface CategoryRepository extends JpaRepository<Category, Long> {
     @Query("SELECT c FROM Category c WHERE c.company.id = :companyId")
     List<Category> findByCompanyId(@Param("companyId") Long companyId);
-    
-    @Query("SELECT c FROM Category c WHERE c.company.id = :companyId AND c.parent IS NULL")
-    List<Category> findMainCategoriesByCompanyId(@Param("companyId") Long companyId);
-    
-    @Query("SELECT c FROM Category c WHERE c.parent.id = :parentId")
-    List<Category> findByParentId(@Param("parentId") Long parentId);
 
     java.util.Optional<Category> findByCompanyIdAndCode(Long companyId, String code);
 }
@@ -1,11 +1,15 @@
 package com.DongSeo.platform.repository;
 
 import com.DongSeo.platform.domain.Company;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface CompanyRepository extends JpaRepository<Company, Long> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     List<Company> findAllByOrderByIdAsc();
     java.util.Optional<Company> findByCode(String code);
 }
@@ -5,15 +5,15 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
 
 public interface ProductVariantRepository extends JpaRepository<ProductVariant, Long> {
-    Optional<ProductVariant> findByProductIdAndSpecNameAndTypeName(
-            Long productId, String specName, String typeName
-    );
-    
     // 제품 ID로 모든 variants 조회 (DB id 순서로 정렬)
     @Query("SELECT DISTINCT v FROM ProductVariant v WHERE v.product.id = :productId ORDER BY v.id")
     List<ProductVariant> findByProductId(@Param("productId") Long productId);
+
+    // 여러 제품의 variants 한 번에 조회 (제품 id, variant id 순서로 정렬)
+    @Query("SELECT v FROM ProductVariant v WHERE v.product.id IN :productIds ORDER BY v.product.id, v.id")
+    List<ProductVariant> findByProductIdIn(@Param("productIds") Collection<Long> productIds);
 }
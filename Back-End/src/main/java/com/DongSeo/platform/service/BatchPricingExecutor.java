@@ -0,0 +1,117 @@
+package com.DongSeo.platform.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+/**
+ * 일괄 견적 항목 실행기
+ *
+ * 가상 스레드 모드(spring.threads.virtual.enabled=true)에서는 항목을 chunk-size개씩 나눠 가상 스레드에서 동시에 계산한다.
+ * 계산은 카탈로그 스냅샷만 읽으므로 항목끼리 공유하는 가변 상태가 없다.
+ * 기본 모드이거나 항목이 한 chunk 이하이면 호출 스레드에서 순서대로 계산한다.
+ * 공개 API에서 들어오는 요청이므로 한 번에 계산할 항목 수는 max-lines로 제한한다.
+ */
+@Slf4j
+@Component
+public class BatchPricingExecutor {
+
+    private final ExecutorService executor;
+    private final int chunkSize;
+    private final int maxLines;
+
+    public BatchPricingExecutor(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads,
+                                @Value("${app.estimate.batch.chunk-size:50}") int chunkSize,
+                                @Value("${app.estimate.batch.max-lines:200}") int maxLines) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("app.estimate.batch.chunk-size는 1 이상이어야 합니다.");
+        }
+        if (maxLines < 1) {
+            throw new IllegalArgumentException("app.estimate.batch.max-lines는 1 이상이어야 합니다.");
+        }
+        this.chunkSize = chunkSize;
+        this.maxLines = maxLines;
+        this.executor = virtualThreads
+                ? Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("estimate-batch-", 0).factory())
+                : null;
+        log.info("일괄 견적 실행 모드: {}, chunkSize={}, maxLines={}",
+                virtualThreads ? "가상 스레드" : "호출 스레드", chunkSize, maxLines);
+    }
+
+    /**
+     * 한 번에 계산할 수 있는 최대 항목 수
+     */
+    public int maxLines() {
+        return maxLines;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (executor != null) {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 0 ~ count-1 번째 항목을 계산해 같은 순서의 결과 목록으로 반환
+     * task는 항목별 예외를 스스로 처리해야 한다 (처리하지 않은 예외는 그대로 다시 던짐).
+     */
+    public <T> List<T> map(int count, IntFunction<T> task) {
+        if (count > maxLines) {
+            throw new IllegalArgumentException("일괄 견적은 한 번에 " + maxLines + "개까지 요청할 수 있습니다. (요청: " + count + "개)");
+        }
+        if (executor == null || count <= chunkSize) {
+            List<T> results = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                results.add(task.apply(i));
+            }
+            return results;
+        }
+
+        Object[] results = new Object[count];
+        List<Future<?>> chunks = new ArrayList<>((count + chunkSize - 1) / chunkSize);
+        for (int from = 0; from < count; from += chunkSize) {
+            int start = from;
+            int end = Math.min(from + chunkSize, count);
+            chunks.add(executor.submit(() -> {
+                for (int i = start; i < end; i++) {
+                    results[i] = task.apply(i);
+                }
+            }));
+        }
+        awaitAll(chunks);
+
+        @SuppressWarnings("unchecked")
+        List<T> ordered = (List<T>) Arrays.asList(results);
+        return ordered;
+    }
+
+    private static void awaitAll(List<Future<?>> chunks) {
+        try {
+            for (Future<?> chunk : chunks) {
+                chunk.get();
+            }
+        } catch (InterruptedException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            Thread.currentThread().interrupt();
+            throw new CancellationException("일괄 견적 계산이 중단되었습니다.");
+        } catch (ExecutionException e) {
+            chunks.forEach(chunk -> chunk.cancel(true));
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("일괄 견적 계산 오류", e.getCause());
+        }
+    }
+}
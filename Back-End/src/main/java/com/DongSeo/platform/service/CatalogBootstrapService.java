@@ -0,0 +1,207 @@
+package com.DongSeo.platform.service;
+
+import com.DongSeo.platform.config.datasource.ReplicaRouting;
+import com.DongSeo.platform.dto.CatalogBootstrapResponse;
+import com.DongSeo.platform.dto.ColorResponse;
+import com.DongSeo.platform.dto.OptionResponse;
+import com.DongSeo.platform.dto.ProductResponse;
+import com.DongSeo.platform.dto.ProductVariantResponse;
+import com.DongSeo.platform.repository.ColorRepository;
+import com.DongSeo.platform.service.catalog.CatalogCategory;
+import com.DongSeo.platform.service.catalog.CatalogCompany;
+import com.DongSeo.platform.service.catalog.CatalogEtags;
+import com.DongSeo.platform.service.catalog.CatalogOption;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.catalog.CategoryTree;
+import com.DongSeo.platform.service.catalog.PricingCatalog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 회사별 카탈로그 전체 응답 (GET /api/catalog)
+ *
+ * 견적 화면이 처음 열릴 때 카테고리/세부 카테고리/제품/옵션/색상/규격을 각각 요청하던 것을 한 번의 응답으로 합친다.
+ * 회사 버전(CatalogSnapshot.companyVersion)마다 한 번만 만들어 JSON 바이트와 gzip 바이트로 보관하고, 요청마다 그대로 내려준다.
+ * 다른 회사의 변경으로는 다시 만들지 않는다.
+ * 색상은 관리자 화면에서 수정하지 않아 스냅샷에 없으므로 응답을 새로 만들 때만 DB에서 읽는다.
+ * 응답의 ETag는 primary 기준 스냅샷에서 나오므로 색상도 replica가 아닌 primary에서 읽는다.
+ */
+@Slf4j
+@Service
+public class CatalogBootstrapService {
+
+    private final PricingCatalog pricingCatalog;
+    private final CatalogEtags catalogEtags;
+    private final ColorRepository colorRepository;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate readOnlyTx;
+
+    /** companyId → 마지막으로 만든 응답 */
+    private final Map<Long, CatalogPayload> payloads = new ConcurrentHashMap<>();
+    /** 응답 생성 직렬화 (색상을 DB에서 읽는 동안 쥐므로 가상 스레드를 고정하지 않는 ReentrantLock) */
+    private final ReentrantLock buildLock = new ReentrantLock();
+
+    public CatalogBootstrapService(PricingCatalog pricingCatalog,
+                                   CatalogEtags catalogEtags,
+                                   ColorRepository colorRepository,
+                                   JsonMapper jsonMapper,
+                                   PlatformTransactionManager transactionManager) {
+        this.pricingCatalog = pricingCatalog;
+        this.catalogEtags = catalogEtags;
+        this.colorRepository = colorRepository;
+        this.jsonMapper = jsonMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 회사의 카탈로그 응답 (현재 회사 버전으로 만든 것이 없으면 새로 만듦)
+     *
+     * @throws IllegalArgumentException 회사가 없는 경우
+     */
+    public CatalogPayload getPayload(Long companyId) {
+        CatalogSnapshot catalog = pricingCatalog.current();
+        CatalogPayload payload = payloads.get(companyId);
+        if (payload != null && payload.version() == catalog.companyVersion(companyId)) {
+            return payload;
+        }
+        return build(catalog, companyId);
+    }
+
+    private CatalogPayload build(CatalogSnapshot catalog, Long companyId) {
+        buildLock.lock();
+        try {
+            CatalogPayload existing = payloads.get(companyId);
+            long version = catalog.companyVersion(companyId);
+            if (existing != null && existing.version() >= version) {
+                return existing;
+            }
+            CatalogCompany company = catalog.company(companyId);
+            if (company == null) {
+                throw new IllegalArgumentException("회사가 존재하지 않습니다.");
+            }
+
+            long start = System.nanoTime();
+            CatalogBootstrapResponse body = toResponse(catalog, company, loadColors(companyId));
+            byte[] json = jsonMapper.writeValueAsBytes(body);
+            byte[] gzip = gzip(json);
+            CatalogPayload payload = new CatalogPayload(version, catalogEtags.company(catalog, companyId), json, gzip);
+            payloads.put(companyId, payload);
+            log.info("카탈로그 응답 생성: companyId={}, companyVersion={}, jsonBytes={}, gzipBytes={}, elapsedMs={}",
+                    companyId, version, json.length, gzip.length, (System.nanoTime() - start) / 1_000_000);
+            return payload;
+        } finally {
+            buildLock.unlock();
+        }
+    }
+
+    private List<ColorResponse> loadColors(Long companyId) {
+        return ReplicaRouting.onPrimary(() -> readOnlyTx.execute(status -> colorRepository.findByCompanyId(companyId).stream()
+                .map(c -> new ColorResponse(
+                        c.getId(),
+                        c.getName(),
+                        c.getColorCode(),
+                        c.getCost(),
+                        new ColorResponse.CompanyInfo(c.getCompany().getId(), c.getCompany().getName(), c.getCompany().getCode())))
+                .toList()));
+    }
+
+    private static CatalogBootstrapResponse toResponse(CatalogSnapshot catalog, CatalogCompany company,
+                                                       List<ColorResponse> colors) {
+        Long companyId = company.id();
+
+        List<CatalogBootstrapResponse.CategoryNode> tree = catalog.categoryTree().roots(companyId).stream()
+                .map(CatalogBootstrapService::toNode)
+                .toList();
+
+        List<CatalogProduct> products = catalog.products().stream()
+                .filter(p -> companyId.equals(p.companyId()))
+                .sorted(Comparator.comparing(CatalogProduct::id))
+                .toList();
+
+        List<ProductResponse> productResponses = new ArrayList<>(products.size());
+        Map<Long, List<ProductVariantResponse>> variants = new LinkedHashMap<>();
+        Map<Long, List<Long>> productOptionIds = new LinkedHashMap<>();
+        for (CatalogProduct p : products) {
+            CatalogCategory category = catalog.category(p.categoryId());
+            productResponses.add(new ProductResponse(
+                    p.id(),
+                    p.name(),
+                    p.basePrice(),
+                    p.description(),
+                    p.size(),
+                    companyId,
+                    company.name(),
+                    category != null ? new ProductResponse.CategoryInfo(category.id(), category.name(), category.code()) : null));
+
+            List<ProductVariantResponse> productVariants = catalog.variants(p.id()).stream()
+                    .map(v -> new ProductVariantResponse(v.id(), v.specName(), v.typeName(), v.price(), v.note()))
+                    .toList();
+            if (!productVariants.isEmpty()) {
+                variants.put(p.id(), productVariants);
+            }
+            productOptionIds.put(p.id(), catalog.effectiveOptions(p, companyId).stream().map(CatalogOption::id).toList());
+        }
+
+        List<OptionResponse> options = catalog.options().stream()
+                .filter(o -> companyId.equals(o.companyId()))
+                .sorted(Comparator.comparing(CatalogOption::id))
+                .map(o -> {
+                    CatalogCategory category = catalog.category(o.categoryId());
+                    return new OptionResponse(o.id(), o.name(), o.addPrice(),
+                            category != null ? new OptionResponse.CategoryInfo(category.id(), category.name(), category.code()) : null);
+                })
+                .toList();
+
+        return new CatalogBootstrapResponse(companyId, company.name(), company.code(), catalog.companyVersion(companyId),
+                tree, productResponses, variants, options, productOptionIds, colors);
+    }
+
+    /**
+     * 트리의 자식 링크는 루트에서 시작하므로 parent가 순환하는 잘못된 데이터도 여기서는 만나지 않는다
+     */
+    private static CatalogBootstrapResponse.CategoryNode toNode(CategoryTree.Node node) {
+        List<CatalogBootstrapResponse.CategoryNode> children = node.children().stream()
+                .map(CatalogBootstrapService::toNode)
+                .toList();
+        return new CatalogBootstrapResponse.CategoryNode(node.id(), node.category().name(), node.category().code(), children);
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 직렬화해 둔 응답
+     *
+     * @param etag 강한 ETag (gzip 응답은 이 값에 -gz를 붙여 사용)
+     */
+    public record CatalogPayload(long version, String etag, byte[] json, byte[] gzip) {
+
+        public String gzipEtag() {
+            return etag.substring(0, etag.length() - 1) + "-gz\"";
+        }
+    }
+}
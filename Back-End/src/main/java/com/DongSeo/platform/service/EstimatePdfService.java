@@ -3,6 +3,9 @@ package com.DongSeo.platform.service;
 import com.DongSeo.platform.dto.EstimatePdfItemDto;
 import com.DongSeo.platform.dto.EstimatePdfRequest;
 import com.DongSeo.platform.util.KoreanFontResolver;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.pdfbox.pdmodel.PDDocument;
@@ -18,6 +21,7 @@ import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 견적서 PDF 생성 서비스
@@ -26,6 +30,10 @@ import java.util.List;
  * - 서버에 한글 폰트 설치 (fonts-nanum) 후 재부팅
  * - 절대경로로 폰트 지정 (KoreanFontResolver)
  * - PDType0Font 로 embed
+ *
+ * 지표 (items: 항목 수 구간 0 / 1-5 / 6-20 / 21-50 / 51+)
+ * - estimate.pdf.generate{items, outcome}: 생성 시간
+ * - estimate.pdf.size{items}: 생성된 PDF 크기 (bytes)
  */
 @Slf4j
 @Service
@@ -33,6 +41,7 @@ import java.util.List;
 public class EstimatePdfService {
 
     private final KoreanFontResolver fontResolver;
+    private final MeterRegistry meterRegistry;
 
     private static final float MARGIN = 56f;
     private static final float PAGE_W = 595f;
@@ -42,6 +51,40 @@ public class EstimatePdfService {
     private static final float LINE_HEIGHT_SMALL = 12f;
 
     public byte[] generatePdf(EstimatePdfRequest req) throws IOException {
+        String items = itemCountBucket(req.getItems() != null ? req.getItems().size() : 0);
+        long startedAt = System.nanoTime();
+        String outcome = "error";
+        try {
+            byte[] pdf = render(req);
+            outcome = "success";
+            DistributionSummary.builder("estimate.pdf.size")
+                    .description("생성된 견적서 PDF 크기")
+                    .baseUnit("bytes")
+                    .tag("items", items)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(pdf.length);
+            return pdf;
+        } finally {
+            Timer.builder("estimate.pdf.generate")
+                    .description("견적서 PDF 생성 시간")
+                    .tag("items", items)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static String itemCountBucket(int count) {
+        if (count == 0) return "0";
+        if (count <= 5) return "1-5";
+        if (count <= 20) return "6-20";
+        if (count <= 50) return "21-50";
+        return "51+";
+    }
+
+    private byte[] render(EstimatePdfRequest req) throws IOException {
         File fontFile = fontResolver.getKoreanFontFile();
         String fontPath = fontFile.getAbsolutePath();
         if (!fontPath.startsWith("/") && !fontPath.matches("^[A-Za-z]:.*")) {
@@ -1,78 +1,128 @@
 package com.DongSeo.platform.service;
 
-import com.DongSeo.platform.domain.Option;
-import com.DongSeo.platform.domain.Product;
+import com.DongSeo.platform.dto.EstimateBatchResponse;
 import com.DongSeo.platform.dto.EstimateRequest;
 import com.DongSeo.platform.dto.EstimateResponse;
-import com.DongSeo.platform.repository.OptionRepository;
-import com.DongSeo.platform.repository.ProductRepository;
+import com.DongSeo.platform.service.calculator.CalculatorDispatcher;
 import com.DongSeo.platform.service.calculator.PriceCalculator;
-import jakarta.transaction.Transactional;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.catalog.PricingCatalog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 /**
  * 견적 계산 서비스
  * 제품, 옵션, 수량 등을 기반으로 견적을 계산합니다.
+ * DB를 조회하지 않고 PricingCatalog의 불변 스냅샷만 사용합니다.
+ * 계산 시간은 estimate.calculate{calculator, outcome} 지표로 남깁니다. (outcome: success / rejected / error)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class EstimationService {
 
-    private final ProductRepository productRepository;
-    private final OptionRepository optionRepository;
-    private final List<PriceCalculator> calculators;
+    private final PricingCatalog pricingCatalog;
+    private final CalculatorDispatcher calculatorDispatcher;
+    private final QuoteCache quoteCache;
+    private final MeterRegistry meterRegistry;
+    private final BatchPricingExecutor batchPricingExecutor;
 
     /**
-     * 견적 계산
+     * 견적 계산 (현재 카탈로그 스냅샷 기준)
      * 
      * @param request 견적 요청 정보
      * @return 계산된 견적 결과
      * @throws IllegalArgumentException 제품이 존재하지 않거나 계산 로직이 없는 경우
      */
-    @Transactional
     public EstimateResponse calculate(EstimateRequest request) {
-        log.debug("견적 계산 시작: productId={}, quantity={}", request.getProductId(), request.getQuantity());
-        
-        // 1. 제품 조회
-        Product product = productRepository.findById(request.getProductId())
-                .orElseThrow(() -> {
-                    log.error("제품을 찾을 수 없음: productId={}", request.getProductId());
-                    return new IllegalArgumentException("제품이 존재하지 않습니다.");
-                });
-
-        // 2. 카테고리 코드 확인
-        String categoryCode = product.getCategory().getCode();
-        String parentCode = (product.getCategory().getParent() != null)
-                ? product.getCategory().getParent().getCode()
-                : null;
-
-        // 3. 적절한 계산기 선택 (우선순위 순서)
-        PriceCalculator calculator = selectCalculator(product, categoryCode, parentCode);
-        
-        log.debug("선택된 계산기: {}, productId={}", calculator.getClass().getSimpleName(), product.getId());
-
-        // 4. 기본 단가 계산
-        int basePrice = calculator.calculateBasePrice(product, request);
-        log.debug("기본 단가 계산 완료: basePrice={}, productId={}", basePrice, product.getId());
-
-        // 5. 추가 옵션 금액 합산
-        int optionsTotal = calculateOptionsTotal(request.getOptionIds());
-        log.debug("옵션 금액 계산 완료: optionsTotal={}", optionsTotal);
+        return calculate(pricingCatalog.current(), request);
+    }
+
+    /**
+     * 견적 계산 (지정한 카탈로그 스냅샷 기준)
+     * 
+     * @param catalog 계산에 사용할 스냅샷
+     * @param request 견적 요청 정보
+     * @return 계산된 견적 결과
+     * @throws IllegalArgumentException 제품이 존재하지 않거나 계산 로직이 없는 경우
+     */
+    public EstimateResponse calculate(CatalogSnapshot catalog, EstimateRequest request) {
+        log.debug("견적 계산 시작: productId={}, quantity={}, catalogVersion={}",
+                request.getProductId(), request.getQuantity(), catalog.version());
+        long startedAt = System.nanoTime();
+        String calculatorName = "none";
+        String outcome = "error";
+        try {
+            // 1. 제품 조회
+            CatalogProduct product = catalog.product(request.getProductId());
+            if (product == null) {
+                log.error("제품을 찾을 수 없음: productId={}", request.getProductId());
+                throw new IllegalArgumentException("제품이 존재하지 않습니다.");
+            }
+
+            // 2~3. 적절한 계산기 선택 (CalculatorRules 우선순위로 미리 만들어 둔 디스패치 테이블 조회)
+            PriceCalculator calculator = calculatorDispatcher.resolve(catalog, product);
+            calculatorName = calculator.getClass().getSimpleName();
+            log.debug("선택된 계산기: {}, productId={}", calculatorName, product.id());
+
+            EstimateResponse response = price(catalog, product, calculator, request);
+            outcome = "success";
+            return response;
+        } catch (IllegalArgumentException e) {
+            outcome = "rejected";
+            throw e;
+        } finally {
+            Timer.builder("estimate.calculate")
+                    .description("견적 한 건 계산 시간")
+                    .tag("calculator", calculatorName)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private EstimateResponse price(CatalogSnapshot catalog, CatalogProduct product, PriceCalculator calculator,
+                                   EstimateRequest request) {
+        // 4~5. 기본 단가 + 옵션 금액 (같은 가격 구간/옵션 조합이면 견적 캐시 사용)
+        QuoteCache.QuoteKey cacheKey = quoteCache.key(product.id(),
+                calculator.pricingKey(catalog, product, request), request.getOptionIds());
+        QuoteCache.CachedQuote cached = cacheKey != null ? quoteCache.get(catalog, cacheKey) : null;
+
+        int basePrice;
+        int optionsTotal;
+        if (cached != null) {
+            basePrice = cached.unitPrice();
+            optionsTotal = cached.optionPrice();
+            log.debug("견적 캐시 적중: productId={}, key={}", product.id(), cacheKey.pricingKey());
+        } else {
+            basePrice = calculator.calculateBasePrice(catalog, product, request);
+            log.debug("기본 단가 계산 완료: basePrice={}, productId={}", basePrice, product.id());
+
+            optionsTotal = calculateOptionsTotal(catalog, product, request.getOptionIds());
+            log.debug("옵션 금액 계산 완료: optionsTotal={}", optionsTotal);
+
+            if (cacheKey != null) {
+                quoteCache.put(catalog, cacheKey, basePrice, optionsTotal);
+            }
+        }
 
         // 6. 최종 금액 계산
         int unitPriceTotal = basePrice + optionsTotal;
         int finalPrice = unitPriceTotal * request.getQuantity();
         log.info("견적 계산 완료: productId={}, unitPrice={}, optionsTotal={}, quantity={}, totalPrice={}",
-                product.getId(), basePrice, optionsTotal, request.getQuantity(), finalPrice);
+                product.id(), basePrice, optionsTotal, request.getQuantity(), finalPrice);
 
         // 7. 응답 생성
         return EstimateResponse.builder()
-                .productName(product.getName())
+                .productName(product.name())
                 .unitPrice(basePrice)
                 .optionPrice(optionsTotal)
                 .quantity(request.getQuantity())
@@ -81,82 +131,64 @@ public class EstimationService {
     }
     
     /**
-     * 적절한 계산기 선택
-     * 제품의 카테고리와 특성에 따라 적절한 PriceCalculator를 선택합니다.
+     * 장바구니 일괄 견적 계산
+     * 모든 항목을 같은 카탈로그 스냅샷으로 계산하며, 항목별 실패는 해당 항목의 error로 반환합니다.
+     * 가상 스레드 모드에서는 항목을 나눠 동시에 계산합니다. (BatchPricingExecutor)
+     * 
+     * @param requests 항목별 견적 요청 목록
+     * @return 항목별 결과와 장바구니 합계
      */
-    private PriceCalculator selectCalculator(Product product, String categoryCode, String parentCode) {
-        final String finalParentCode = parentCode;
-        
-        // 간살 목창호는 MatrixCalculator 우선 사용
-        if (isGansalWindow(product, categoryCode, finalParentCode)) {
-            return calculators.stream()
-                    .filter(c -> c instanceof com.DongSeo.platform.service.calculator.MatrixCalculator)
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("간살 목창호 계산기를 찾을 수 없습니다."));
-        }
-        
-        // WINDOW 카테고리인 경우 base_price가 있으면 BasicCalculator 우선
-        if (isWindowWithBasePrice(product, categoryCode, finalParentCode)) {
-            return calculators.stream()
-                    .filter(c -> c instanceof com.DongSeo.platform.service.calculator.BasicCalculator)
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("기본 계산기를 찾을 수 없습니다."));
-        }
-        
-        // INTERLOCK 카테고리에서 목재 3연동 중문인 경우 VariantCalculator 우선
-        if (isWoodInterlock(product, categoryCode, finalParentCode)) {
-            return calculators.stream()
-                    .filter(c -> c instanceof com.DongSeo.platform.service.calculator.VariantCalculator)
-                    .findFirst()
-                    .orElseThrow(() -> new IllegalArgumentException("변형 계산기를 찾을 수 없습니다."));
+    public EstimateBatchResponse calculateBatch(List<EstimateRequest> requests) {
+        CatalogSnapshot catalog = pricingCatalog.current();
+        List<EstimateBatchResponse.Line> lines = batchPricingExecutor.map(requests.size(),
+                i -> calculateLine(catalog, i, requests.get(i)));
+
+        long totalPrice = 0;
+        int errorCount = 0;
+        for (EstimateBatchResponse.Line line : lines) {
+            if (line.getEstimate() != null) {
+                totalPrice += line.getEstimate().getTotalPrice();
+            } else {
+                errorCount++;
+            }
         }
-        
-        // 기본적으로 카테고리 코드로 계산기 찾기
-        return calculators.stream()
-                .filter(c -> c.supports(categoryCode) || (finalParentCode != null && c.supports(finalParentCode)))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("해당 제품의 계산 로직이 없습니다."));
-    }
-    
-    /**
-     * 간살 목창호 여부 확인
-     */
-    private boolean isGansalWindow(Product product, String categoryCode, String parentCode) {
-        return ("WINDOW".equals(categoryCode) || "WINDOW".equals(parentCode))
-                && product.getName() != null
-                && product.getName().contains("간살");
-    }
-    
-    /**
-     * base_price가 있는 WINDOW 제품 여부 확인
-     */
-    private boolean isWindowWithBasePrice(Product product, String categoryCode, String parentCode) {
-        return ("WINDOW".equals(categoryCode) || "WINDOW".equals(parentCode))
-                && product.getBasePrice() != null
-                && product.getBasePrice() > 0;
+
+        log.info("일괄 견적 계산 완료: count={}, errors={}, totalPrice={}, catalogVersion={}",
+                requests.size(), errorCount, totalPrice, catalog.version());
+        return EstimateBatchResponse.builder()
+                .lines(lines)
+                .totalPrice(totalPrice)
+                .successCount(requests.size() - errorCount)
+                .errorCount(errorCount)
+                .catalogVersion(catalog.version())
+                .build();
     }
-    
-    /**
-     * 목재 3연동 중문 여부 확인
-     */
-    private boolean isWoodInterlock(Product product, String categoryCode, String parentCode) {
-        return ("INTERLOCK".equals(categoryCode) || "INTERLOCK".equals(parentCode))
-                && product.getName() != null
-                && product.getName().contains("목재 3연동 중문");
+
+    private EstimateBatchResponse.Line calculateLine(CatalogSnapshot catalog, int index, EstimateRequest request) {
+        Long productId = request != null ? request.getProductId() : null;
+        try {
+            if (request == null) {
+                throw new IllegalArgumentException("견적 요청이 비어 있습니다.");
+            }
+            return new EstimateBatchResponse.Line(index, productId, calculate(catalog, request), null);
+        } catch (IllegalArgumentException e) {
+            log.warn("일괄 견적 항목 실패: index={}, productId={}, reason={}", index, productId, e.getMessage());
+            return new EstimateBatchResponse.Line(index, productId, null, e.getMessage());
+        } catch (RuntimeException e) {
+            log.error("일괄 견적 항목 오류: index={}, productId={}", index, productId, e);
+            return new EstimateBatchResponse.Line(index, productId, null, "견적 계산 중 오류가 발생했습니다.");
+        }
     }
     
     /**
      * 옵션 금액 합산
+     * 옵션 가격표(OptionPriceTable)에서 합산하며, 존재하지 않거나 제품에 적용할 수 없는 옵션은 예외로 알린다.
      */
-    private int calculateOptionsTotal(List<Long> optionIds) {
+    private int calculateOptionsTotal(CatalogSnapshot catalog, CatalogProduct product, List<Long> optionIds) {
         if (optionIds == null || optionIds.isEmpty()) {
             return 0;
         }
-        
-        List<Option> selectedOptions = optionRepository.findAllById(optionIds);
-        return selectedOptions.stream()
-                .mapToInt(Option::getAddPrice)
-                .sum();
+        return catalog.sumOptionPrices(product, optionIds);
     }
 
 }
\ No newline at end of file
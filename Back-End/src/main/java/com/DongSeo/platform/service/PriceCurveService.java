@@ -0,0 +1,120 @@
+package com.DongSeo.platform.service;
+
+import com.DongSeo.platform.dto.PriceCurveResponse;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.catalog.MatrixPriceIndex;
+import com.DongSeo.platform.service.catalog.PricingCatalog;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 매트릭스 가격 제품의 가격 곡선 생성
+ *
+ * 카탈로그 스냅샷의 MatrixPriceIndex를 가로/세로 구간 목록으로 펼친다. (DB 조회 없음)
+ * 결과는 (제품, 옵션명, 제품 리비전)별로 캐시하며, 리비전이 곧 응답 버전이라 ETag로 그대로 쓴다.
+ * 관리자가 제품의 매트릭스를 수정하면 리비전이 바뀌어 새 곡선이 만들어지고, 이전 항목은 크기 제한으로 밀려난다.
+ */
+@Slf4j
+@Service
+public class PriceCurveService {
+
+    private final PricingCatalog pricingCatalog;
+    private final Cache<CurveKey, PriceCurve> cache = Caffeine.newBuilder()
+            .maximumSize(2_000)
+            .build();
+
+    public PriceCurveService(PricingCatalog pricingCatalog) {
+        this.pricingCatalog = pricingCatalog;
+    }
+
+    /**
+     * 가격 곡선 조회
+     *
+     * @param optionName 매트릭스 옵션명 (비어 있으면 옵션이 하나뿐인 경우 그 옵션)
+     * @throws IllegalArgumentException 제품이 없거나, 매트릭스 가격 제품이 아니거나, 옵션명이 잘못된 경우
+     */
+    public PriceCurve getCurve(Long productId, String optionName) {
+        CatalogSnapshot catalog = pricingCatalog.current();
+        CatalogProduct product = catalog.product(productId);
+        if (product == null) {
+            throw new IllegalArgumentException("제품이 존재하지 않습니다.");
+        }
+        Map<String, MatrixPriceIndex.Table> tables = catalog.matrices(productId);
+        if (tables.isEmpty()) {
+            throw new IllegalArgumentException("가격 매트릭스가 없는 제품입니다.");
+        }
+        List<String> optionNames = tables.keySet().stream().sorted().toList();
+        String resolvedOption = optionName != null && !optionName.isBlank() ? optionName.trim()
+                : optionNames.size() == 1 ? optionNames.get(0) : null;
+        if (resolvedOption == null || !tables.containsKey(resolvedOption)) {
+            throw new IllegalArgumentException("옵션명을 확인해주세요. 선택 가능한 옵션: " + optionNames);
+        }
+
+        long revision = catalog.revision(productId);
+        return cache.get(new CurveKey(productId, resolvedOption, revision), key -> {
+            log.debug("가격 곡선 생성: productId={}, optionName={}, revision={}", productId, resolvedOption, revision);
+            PriceCurveResponse body = build(product, resolvedOption, optionNames, revision, tables.get(resolvedOption));
+            return new PriceCurve(etag(key, pricingCatalog.epoch()), body);
+        });
+    }
+
+    private static PriceCurveResponse build(CatalogProduct product, String optionName, List<String> optionNames,
+                                            long revision, MatrixPriceIndex.Table table) {
+        boolean heightBanded = table.hasHeightBands();
+        List<PriceCurveResponse.WidthBand> widthBands = new ArrayList<>(table.bandCount());
+        int minWidth = 0;
+        for (int band = 0; band < table.bandCount(); band++) {
+            int first = table.bandFirstRow(band);
+            List<PriceCurveResponse.HeightBand> heightBands = null;
+            if (heightBanded) {
+                heightBands = new ArrayList<>();
+                int minHeight = 0;
+                for (int row = first; row < table.bandEndRow(band); row++) {
+                    Integer maxHeight = table.isHeightUnbounded(row) ? null : table.maxHeight(row);
+                    heightBands.add(new PriceCurveResponse.HeightBand(minHeight, maxHeight, table.price(row)));
+                    if (maxHeight == null) {
+                        break;
+                    }
+                    minHeight = maxHeight + 1;
+                }
+            }
+            int maxWidth = table.bandMaxWidth(band);
+            widthBands.add(new PriceCurveResponse.WidthBand(minWidth, maxWidth, table.price(first), heightBands));
+            minWidth = maxWidth + 1;
+        }
+
+        return PriceCurveResponse.builder()
+                .productId(product.id())
+                .productName(product.name())
+                .optionName(optionName)
+                .optionNames(optionNames)
+                .revision(revision)
+                .heightBanded(heightBanded)
+                .widthBands(widthBands)
+                .build();
+    }
+
+    /**
+     * 같은 기동 안에서 리비전이 같으면 내용도 같으므로 (기동 시각, 제품, 옵션명, 리비전)으로 강한 ETag를 만든다
+     */
+    private static String etag(CurveKey key, long epoch) {
+        return "\"pc-" + Long.toString(epoch, 36) + "-" + key.productId() + "-" + key.revision()
+                + "-" + Integer.toHexString(key.optionName().hashCode()) + "\"";
+    }
+
+    private record CurveKey(Long productId, String optionName, long revision) {
+    }
+
+    /**
+     * 응답 본문과 ETag
+     */
+    public record PriceCurve(String etag, PriceCurveResponse body) {
+    }
+}
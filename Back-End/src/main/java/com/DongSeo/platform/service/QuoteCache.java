@@ -0,0 +1,94 @@
+package com.DongSeo.platform.service;
+
+import com.DongSeo.platform.service.catalog.CatalogRefreshedEvent;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 견적 단가 캐시
+ *
+ * 가로폭 슬라이더처럼 같은 조합을 반복 요청하는 경우를 위해 (제품, 가격 결정 입력값, 옵션)별
+ * 단가와 옵션 합계를 보관한다. 수량은 캐시 밖에서 곱한다.
+ * - 키 정규화: 옵션 ID는 중복 제거 후 정렬, 가로/세로는 PriceCalculator.pricingKey로 가격 구간 단위로 묶음
+ * - 무효화: 항목마다 계산 당시의 제품 리비전을 저장하고, 조회 시 현재 스냅샷의 리비전과 다르면 버린다.
+ *   스냅샷이 교체되면 리비전이 바뀐 제품의 항목만 골라 제거한다.
+ * - 크기/TTL 제한과 적중률 지표(estimate.quotes)는 Caffeine으로 관리한다.
+ */
+@Slf4j
+@Component
+public class QuoteCache {
+
+    private final Cache<QuoteKey, CachedQuote> cache;
+
+    public QuoteCache(MeterRegistry meterRegistry,
+                      @Value("${app.estimate.quote-cache.max-size:10000}") long maxSize,
+                      @Value("${app.estimate.quote-cache.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "estimate.quotes");
+    }
+
+    /**
+     * 캐시 키 생성
+     *
+     * @param pricingKey PriceCalculator.pricingKey 결과 (null이면 캐시하지 않음)
+     * @return 캐시 키, 캐시하지 않으면 null
+     */
+    public QuoteKey key(Long productId, String pricingKey, List<Long> optionIds) {
+        if (pricingKey == null) {
+            return null;
+        }
+        List<Long> normalizedOptions = optionIds == null
+                ? List.of()
+                : optionIds.stream().filter(Objects::nonNull).distinct().sorted().toList();
+        return new QuoteKey(productId, pricingKey, normalizedOptions);
+    }
+
+    /**
+     * 캐시 조회 (제품 리비전이 바뀐 항목은 없는 것으로 본다)
+     */
+    public CachedQuote get(CatalogSnapshot catalog, QuoteKey key) {
+        CachedQuote quote = cache.getIfPresent(key);
+        if (quote != null && quote.revision() != catalog.revision(key.productId())) {
+            cache.invalidate(key);
+            return null;
+        }
+        return quote;
+    }
+
+    public void put(CatalogSnapshot catalog, QuoteKey key, int unitPrice, int optionPrice) {
+        cache.put(key, new CachedQuote(catalog.revision(key.productId()), unitPrice, optionPrice));
+    }
+
+    /**
+     * 새 스냅샷에서 리비전이 바뀐(가격/규격/옵션이 바뀐) 제품의 항목만 제거
+     */
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        CatalogSnapshot catalog = event.snapshot();
+        long before = cache.estimatedSize();
+        cache.asMap().entrySet().removeIf(e -> e.getValue().revision() != catalog.revision(e.getKey().productId()));
+        log.debug("견적 캐시 무효화: catalogVersion={}, before={}, after={}",
+                catalog.version(), before, cache.estimatedSize());
+    }
+
+    public record QuoteKey(Long productId, String pricingKey, List<Long> optionIds) {
+    }
+
+    public record CachedQuote(long revision, int unitPrice, int optionPrice) {
+    }
+}
@@ -1,7 +1,8 @@
 package com.DongSeo.platform.service.calculator;
 
-import com.DongSeo.platform.domain.Product;
 import com.DongSeo.platform.dto.EstimateRequest;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -27,12 +28,18 @@ public class BasicCalculator implements PriceCalculator {
     }
 
     @Override
-    public int calculateBasePrice(Product product, EstimateRequest request) {
+    public int calculateBasePrice(CatalogSnapshot catalog, CatalogProduct product, EstimateRequest request) {
         // 도어 제품 또는 일반 목창호 제품은 base_price를 그대로 반환
         // 수량은 EstimationService에서 처리됨
-        if (product.getBasePrice() == null || product.getBasePrice() == 0) {
+        if (product.basePrice() == null || product.basePrice() == 0) {
             throw new IllegalArgumentException("제품의 기본 단가가 설정되지 않았습니다.");
         }
-        return product.getBasePrice();
+        return product.basePrice();
+    }
+
+    @Override
+    public String pricingKey(CatalogSnapshot catalog, CatalogProduct product, EstimateRequest request) {
+        // base_price만 사용하므로 규격/사이즈와 무관
+        return "";
     }
 }
@@ -0,0 +1,87 @@
+package com.DongSeo.platform.service.calculator;
+
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogRefreshedEvent;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 제품 ID → PriceCalculator 디스패치 테이블
+ *
+ * 카탈로그 스냅샷이 바뀔 때마다 (기동 시, 관리자 수정 시) CalculatorRule들을 제품별로 한 번씩만 평가해
+ * 테이블을 만들어 두고, 견적 요청에서는 맵 조회 한 번으로 계산기를 찾는다.
+ */
+@Slf4j
+@Component
+public class CalculatorDispatcher {
+
+    private final List<CalculatorRule> rules;
+
+    private volatile DispatchTable table = new DispatchTable(-1L, Map.of());
+
+    public CalculatorDispatcher(List<CalculatorRule> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        compile(event.snapshot());
+    }
+
+    /**
+     * 제품에 사용할 계산기 조회
+     *
+     * @throws IllegalArgumentException 해당 제품에 맞는 계산기가 없는 경우
+     */
+    public PriceCalculator resolve(CatalogSnapshot catalog, CatalogProduct product) {
+        DispatchTable current = table;
+        if (current.version() != catalog.version()) {
+            // 이전 스냅샷으로 계산 중인 요청은 테이블을 되돌리지 않고 규칙을 직접 평가
+            current = catalog.version() > current.version() ? compile(catalog) : null;
+        }
+        PriceCalculator calculator = current != null
+                ? current.calculators().get(product.id())
+                : evaluate(catalog, product);
+        if (calculator == null) {
+            throw new IllegalArgumentException("해당 제품의 계산 로직이 없습니다.");
+        }
+        return calculator;
+    }
+
+    private synchronized DispatchTable compile(CatalogSnapshot catalog) {
+        DispatchTable current = table;
+        if (current.version() >= catalog.version()) {
+            return current.version() == catalog.version() ? current : null;
+        }
+        Map<Long, PriceCalculator> calculators = new HashMap<>();
+        for (CatalogProduct product : catalog.products()) {
+            PriceCalculator calculator = evaluate(catalog, product);
+            if (calculator != null) {
+                calculators.put(product.id(), calculator);
+            }
+        }
+        DispatchTable compiled = new DispatchTable(catalog.version(), Map.copyOf(calculators));
+        table = compiled;
+        log.debug("계산기 디스패치 테이블 생성: catalogVersion={}, products={}", catalog.version(), calculators.size());
+        return compiled;
+    }
+
+    private PriceCalculator evaluate(CatalogSnapshot catalog, CatalogProduct product) {
+        for (CalculatorRule rule : rules) {
+            PriceCalculator calculator = rule.resolve(catalog, product);
+            if (calculator != null) {
+                return calculator;
+            }
+        }
+        return null;
+    }
+
+    private record DispatchTable(long version, Map<Long, PriceCalculator> calculators) {
+    }
+}
@@ -0,0 +1,27 @@
+package com.DongSeo.platform.service.calculator;
+
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+
+import java.util.function.BiPredicate;
+
+/**
+ * 제품에 사용할 PriceCalculator를 고르는 규칙
+ *
+ * 규칙은 @Order 순서대로 평가되며, 처음으로 계산기를 반환한 규칙이 적용된다.
+ * 새 계산기나 예외 규칙은 이 타입의 빈을 등록하는 것만으로 추가할 수 있다. (CalculatorRules 참고)
+ */
+public interface CalculatorRule {
+
+    /**
+     * @return 규칙이 적용되면 사용할 계산기, 적용되지 않으면 null
+     */
+    PriceCalculator resolve(CatalogSnapshot catalog, CatalogProduct product);
+
+    /**
+     * 조건이 맞으면 지정한 계산기를 사용하는 규칙
+     */
+    static CalculatorRule when(BiPredicate<CatalogSnapshot, CatalogProduct> condition, PriceCalculator calculator) {
+        return (catalog, product) -> condition.test(catalog, product) ? calculator : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.DongSeo.platform.service.calculator;
+
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+
+import java.util.List;
+
+/**
+ * 계산기 선택 규칙 (우선순위 순서)
+ *
+ * 1. 간살 목창호 → MatrixCalculator
+ * 2. base_price가 있는 WINDOW 제품 → BasicCalculator
+ * 3. INTERLOCK 카테고리의 목재 3연동 중문 → VariantCalculator
+ * 4. 그 외에는 카테고리(또는 부모 카테고리) 코드를 지원하는 첫 번째 계산기
+ */
+@Configuration
+public class CalculatorRules {
+
+    @Bean
+    @Order(100)
+    public CalculatorRule gansalWindowRule(MatrixCalculator matrixCalculator) {
+        return CalculatorRule.when(
+                (catalog, product) -> catalog.isInCategory(product, "WINDOW") && nameContains(product, "간살"),
+                matrixCalculator);
+    }
+
+    @Bean
+    @Order(200)
+    public CalculatorRule windowWithBasePriceRule(BasicCalculator basicCalculator) {
+        return CalculatorRule.when(
+                (catalog, product) -> catalog.isInCategory(product, "WINDOW")
+                        && product.basePrice() != null
+                        && product.basePrice() > 0,
+                basicCalculator);
+    }
+
+    @Bean
+    @Order(300)
+    public CalculatorRule woodInterlockRule(VariantCalculator variantCalculator) {
+        return CalculatorRule.when(
+                (catalog, product) -> catalog.isInCategory(product, "INTERLOCK") && nameContains(product, "목재 3연동 중문"),
+                variantCalculator);
+    }
+
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public CalculatorRule categoryCodeRule(List<PriceCalculator> calculators) {
+        return (CatalogSnapshot catalog, CatalogProduct product) -> {
+            String categoryCode = catalog.categoryCode(product);
+            String parentCode = catalog.parentCategoryCode(product);
+            for (PriceCalculator calculator : calculators) {
+                if (calculator.supports(categoryCode) || (parentCode != null && calculator.supports(parentCode))) {
+                    return calculator;
+                }
+            }
+            return null;
+        };
+    }
+
+    private static boolean nameContains(CatalogProduct product, String keyword) {
+        return product.name() != null && product.name().contains(keyword);
+    }
+}
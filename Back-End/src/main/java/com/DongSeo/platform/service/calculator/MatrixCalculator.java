@@ -1,18 +1,14 @@
 package com.DongSeo.platform.service.calculator;
 
-import com.DongSeo.platform.domain.PricingMatrix;
-import com.DongSeo.platform.domain.Product;
 import com.DongSeo.platform.dto.EstimateRequest;
-import com.DongSeo.platform.repository.PricingMatrixRepository;
-import lombok.RequiredArgsConstructor;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.catalog.MatrixPriceIndex;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class MatrixCalculator implements PriceCalculator {
 
-    private final PricingMatrixRepository matrixRepository;
-
     @Override
     public boolean supports(String categoryCode) {
         // 중문(INTERLOCK)이나 창호(WINDOW)일 때 동작
@@ -20,43 +16,62 @@ public class MatrixCalculator implements PriceCalculator {
     }
 
     @Override
-    public int calculateBasePrice(Product product, EstimateRequest request) {
+    public int calculateBasePrice(CatalogSnapshot catalog, CatalogProduct product, EstimateRequest request) {
         if (request.getWidth() == null) {
             throw new IllegalArgumentException("가로폭을 입력해야 합니다.");
         }
         
-        // 목창호인 경우: typeName을 optionName으로 사용
-        String optionName;
-        boolean isWindow = "WINDOW".equals(product.getCategory().getCode()) || 
-            (product.getCategory().getParent() != null && "WINDOW".equals(product.getCategory().getParent().getCode()));
-        
-        if (isWindow) {
-            // 목창호 제품의 경우 typeName을 optionName으로 사용
-            optionName = request.getTypeName() != null ? request.getTypeName() : "미닫이 (80바)";
-        } else {
-            // 중문인 경우 기본 세트
-            optionName = "기본 세트";
+        String optionName = optionName(catalog, product, request);
+        MatrixPriceIndex.Table matrix = catalog.matrix(product.id(), optionName);
+        int row = findRow(matrix, request);
+        if (row == MatrixPriceIndex.Table.HEIGHT_EXCEEDED) {
+            throw new IllegalArgumentException(String.format(
+                "세로 초과: 가로 %dmm 구간의 최대 세로는 %dmm입니다. (입력 세로: %dmm)",
+                request.getWidth(), matrix.bandMaxHeight(request.getWidth()), request.getHeight()));
         }
-        
-        // 목창호인 경우 가로폭 기준으로 가격 매트릭스 찾기
-        // (세로 높이는 옵션으로 처리되므로 가격 매트릭스는 가로폭만 체크)
-        PricingMatrix matrix;
-        if (isWindow) {
-            // 목창호는 가로폭만 체크 (세로 높이는 옵션으로 추가 비용 처리)
-            matrix = matrixRepository.findFirstByProductIdAndOptionNameAndMaxWidthGreaterThanEqualOrderByMaxWidthAsc(
-                product.getId(), optionName, request.getWidth()
-            ).orElseThrow(() -> new IllegalArgumentException(
-                String.format("해당 사이즈(가로: %dmm)의 가격표가 없습니다.", request.getWidth())
-            ));
-        } else {
-            // 중문인 경우 가로폭만 체크
-            matrix = matrixRepository.findFirstByProductIdAndOptionNameAndMaxWidthGreaterThanEqualOrderByMaxWidthAsc(
-                product.getId(), optionName, request.getWidth()
-            ).orElseThrow(() -> new IllegalArgumentException(
-                String.format("해당 사이즈(가로: %dmm)의 가격표가 없습니다.", request.getWidth())
-            ));
+        if (row == MatrixPriceIndex.Table.NOT_FOUND) {
+            throw new IllegalArgumentException(request.getHeight() != null
+                ? String.format("해당 사이즈(가로: %dmm, 세로: %dmm)의 가격표가 없습니다.", request.getWidth(), request.getHeight())
+                : String.format("해당 사이즈(가로: %dmm)의 가격표가 없습니다.", request.getWidth())
+            );
+        }
+
+        return matrix.price(row);
+    }
+
+    /**
+     * 같은 가격 구간(행)에 속하는 가로/세로는 같은 키가 되도록 구간 위치로 정규화
+     */
+    @Override
+    public String pricingKey(CatalogSnapshot catalog, CatalogProduct product, EstimateRequest request) {
+        if (request.getWidth() == null) {
+            return null;
+        }
+        String optionName = optionName(catalog, product, request);
+        int row = findRow(catalog.matrix(product.id(), optionName), request);
+        return row >= 0 ? optionName + '#' + row : null;
+    }
+
+    private String optionName(CatalogSnapshot catalog, CatalogProduct product, EstimateRequest request) {
+        // 목창호인 경우: typeName을 optionName으로 사용
+        if (catalog.isInCategory(product, "WINDOW")) {
+            return request.getTypeName() != null ? request.getTypeName() : "미닫이 (80바)";
         }
+        // 중문인 경우 기본 세트
+        return "기본 세트";
+    }
 
-        return matrix.getPrice();
+    /**
+     * 가격 매트릭스 찾기 (MatrixPriceIndex 이진 탐색)
+     * 세로 높이가 입력되면 가로폭 구간 안에서 세로 구간으로, 없으면 가로폭 구간의 가장 낮은 세로 구간으로 조회
+     * (세로 추가 비용은 매트릭스의 세로 구간 가격에 포함되며, 화면에서 따로 더하지 않는다)
+     */
+    private int findRow(MatrixPriceIndex.Table matrix, EstimateRequest request) {
+        if (matrix == null) {
+            return MatrixPriceIndex.Table.NOT_FOUND;
+        }
+        return request.getHeight() != null
+                ? matrix.find(request.getWidth(), request.getHeight())
+                : matrix.find(request.getWidth());
     }
 }
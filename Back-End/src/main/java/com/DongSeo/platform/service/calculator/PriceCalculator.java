@@ -1,10 +1,26 @@
 package com.DongSeo.platform.service.calculator;
 
-import com.DongSeo.platform.domain.Product;
 import com.DongSeo.platform.dto.EstimateRequest;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
 
 public interface PriceCalculator {
     boolean supports(String categoryCode);
 
-    int calculateBasePrice(Product product, EstimateRequest request);
+    /**
+     * 기본 단가 계산 (DB 조회 없이 카탈로그 스냅샷만 사용)
+     */
+    int calculateBasePrice(CatalogSnapshot catalog, CatalogProduct product, EstimateRequest request);
+
+    /**
+     * 견적 캐시 키로 쓸 가격 결정 입력값
+     * 단가가 같게 나오는 요청은 같은 값을 반환해야 한다. (예: 같은 가격 구간에 속하는 가로폭)
+     * 기본값은 규격/타입/가로/세로를 모두 사용한다.
+     *
+     * @return 캐시 키, 캐시하지 않으려면 null
+     */
+    default String pricingKey(CatalogSnapshot catalog, CatalogProduct product, EstimateRequest request) {
+        return request.getSpecName() + '|' + request.getTypeName() + '|'
+                + request.getWidth() + 'x' + request.getHeight();
+    }
 }
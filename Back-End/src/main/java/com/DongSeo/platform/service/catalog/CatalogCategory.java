@@ -0,0 +1,8 @@
+package com.DongSeo.platform.service.catalog;
+
+/**
+ * 카탈로그 스냅샷의 카테고리 항목 (읽기 전용)
+ * parentId가 null이면 메인 카테고리
+ */
+public record CatalogCategory(Long id, Long companyId, Long parentId, String name, String code) {
+}
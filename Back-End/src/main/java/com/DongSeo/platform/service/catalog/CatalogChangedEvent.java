@@ -0,0 +1,19 @@
+package com.DongSeo.platform.service.catalog;
+
+/**
+ * 관리자 쓰기로 카탈로그가 변경되었음을 알리는 이벤트
+ * 트랜잭션 커밋 후 PricingCatalog가 새 스냅샷을 만들어 교체한다.
+ *
+ * @param companyId 변경된 회사 ID (알 수 없으면 null)
+ * @param productId 변경된 제품 ID (제품 단위 변경이 아니면 null)
+ */
+public record CatalogChangedEvent(Long companyId, Long productId) {
+
+    public static CatalogChangedEvent ofCompany(Long companyId) {
+        return new CatalogChangedEvent(companyId, null);
+    }
+
+    public static CatalogChangedEvent ofProduct(Long companyId, Long productId) {
+        return new CatalogChangedEvent(companyId, productId);
+    }
+}
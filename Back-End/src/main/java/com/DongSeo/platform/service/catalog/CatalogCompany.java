@@ -0,0 +1,7 @@
+package com.DongSeo.platform.service.catalog;
+
+/**
+ * 카탈로그 스냅샷의 회사 항목 (읽기 전용)
+ */
+public record CatalogCompany(Long id, String name, String code) {
+}
@@ -0,0 +1,39 @@
+package com.DongSeo.platform.service.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 공개 카탈로그 조회 API의 강한 ETag
+ *
+ * 응답 내용이 회사 버전(CatalogSnapshot.companyVersion) 또는 제품 리비전만으로 결정되므로,
+ * 요청이 오면 DB를 보지 않고 현재 스냅샷만으로 ETag를 만들어 If-None-Match와 비교할 수 있다.
+ * 버전은 재시작하면 다시 시작하므로 기동 시각(PricingCatalog.epoch)을 함께 넣는다.
+ * 응답 본문을 만들기 전에 읽은 스냅샷으로 ETag를 만들어야 한다. (본문이 ETag보다 오래된 경우가 생기지 않도록)
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogEtags {
+
+    private final PricingCatalog pricingCatalog;
+
+    /**
+     * 회사 단위 응답 (카테고리, 제품 목록, 옵션, 색상 등)
+     *
+     * @param companyId 회사 ID (null이면 전체 카탈로그 버전 사용)
+     */
+    public String company(CatalogSnapshot catalog, Long companyId) {
+        return etag("c" + (companyId != null ? companyId : "all"), catalog.companyVersion(companyId));
+    }
+
+    /**
+     * 제품 단위 응답 (규격 목록 등)
+     */
+    public String product(CatalogSnapshot catalog, Long productId) {
+        return etag("p" + productId, catalog.revision(productId));
+    }
+
+    private String etag(String scope, long version) {
+        return "\"cat-" + Long.toString(pricingCatalog.epoch(), 36) + "-" + scope + "-" + version + "\"";
+    }
+}
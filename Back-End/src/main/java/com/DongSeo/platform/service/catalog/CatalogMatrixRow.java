@@ -0,0 +1,7 @@
+package com.DongSeo.platform.service.catalog;
+
+/**
+ * 카탈로그 스냅샷의 가격 매트릭스(price_matrix) 행 (읽기 전용)
+ */
+public record CatalogMatrixRow(Long id, Long productId, String optionName, Integer maxWidth, Integer maxHeight, Integer price) {
+}
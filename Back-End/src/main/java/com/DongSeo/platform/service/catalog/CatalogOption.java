@@ -0,0 +1,8 @@
+package com.DongSeo.platform.service.catalog;
+
+/**
+ * 카탈로그 스냅샷의 옵션 항목 (읽기 전용)
+ * categoryId, productId가 null이면 각각 카테고리/제품 공통 옵션
+ */
+public record CatalogOption(Long id, Long companyId, Long categoryId, Long productId, String name, int addPrice) {
+}
@@ -0,0 +1,15 @@
+package com.DongSeo.platform.service.catalog;
+
+/**
+ * 카탈로그 스냅샷의 제품 항목 (읽기 전용)
+ */
+public record CatalogProduct(
+        Long id,
+        Long companyId,
+        Long categoryId,
+        String name,
+        Integer basePrice,
+        String description,
+        String size
+) {
+}
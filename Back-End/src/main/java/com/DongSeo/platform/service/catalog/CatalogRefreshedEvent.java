@@ -0,0 +1,8 @@
+package com.DongSeo.platform.service.catalog;
+
+/**
+ * 새 카탈로그 스냅샷이 교체된 직후 발행되는 이벤트
+ * 스냅샷에서 파생되는 인덱스(계산기 디스패치 테이블 등)를 미리 만들어 둘 때 사용한다.
+ */
+public record CatalogRefreshedEvent(CatalogSnapshot snapshot) {
+}
@@ -0,0 +1,321 @@
+package com.DongSeo.platform.service.catalog;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 견적 계산용 카탈로그 스냅샷 (불변)
+ *
+ * 제품, 카테고리, 규격(variant), 가격 매트릭스, 옵션을 한 번에 읽어 메모리에 올려둔 것.
+ * 생성 후에는 절대 변경되지 않으므로 여러 스레드가 락 없이 동시에 읽을 수 있다.
+ * 관리자 수정이 있으면 PricingCatalog가 새 스냅샷을 만들어 통째로 교체한다.
+ */
+public final class CatalogSnapshot {
+
+    private final long version;
+    private final Map<Long, CatalogCompany> companies;
+    private final Map<Long, CatalogCategory> categories;
+    private final CategoryTree categoryTree;
+    private final Map<Long, CatalogProduct> products;
+    private final VariantIndex variantIndex;
+    private final MatrixPriceIndex matrixIndex;
+    private final Map<Long, CatalogOption> options;
+    private final OptionPriceTable optionPrices;
+    private final EffectiveOptionIndex effectiveOptions;
+    private final Map<Long, Long> productRevisions;
+    private final Map<Long, Long> companyVersions;
+
+    private CatalogSnapshot(long version,
+                            Map<Long, CatalogCompany> companies,
+                            Map<Long, CatalogCategory> categories,
+                            CategoryTree categoryTree,
+                            Map<Long, CatalogProduct> products,
+                            VariantIndex variantIndex,
+                            MatrixPriceIndex matrixIndex,
+                            Map<Long, CatalogOption> options,
+                            OptionPriceTable optionPrices,
+                            EffectiveOptionIndex effectiveOptions,
+                            Map<Long, Long> productRevisions,
+                            Map<Long, Long> companyVersions) {
+        this.version = version;
+        this.companies = companies;
+        this.categories = categories;
+        this.categoryTree = categoryTree;
+        this.products = products;
+        this.variantIndex = variantIndex;
+        this.matrixIndex = matrixIndex;
+        this.options = options;
+        this.optionPrices = optionPrices;
+        this.effectiveOptions = effectiveOptions;
+        this.productRevisions = productRevisions;
+        this.companyVersions = companyVersions;
+    }
+
+    /**
+     * 조회 결과 목록으로 스냅샷 생성
+     */
+    public static CatalogSnapshot of(long version,
+                                     Collection<CatalogCompany> companies,
+                                     Collection<CatalogCategory> categories,
+                                     Collection<CatalogProduct> products,
+                                     Collection<CatalogVariant> variants,
+                                     Collection<CatalogMatrixRow> matrixRows,
+                                     Collection<CatalogOption> options) {
+        Map<Long, CatalogCompany> companyMap = new HashMap<>();
+        Map<Long, Long> companyVersionMap = new HashMap<>();
+        companies.forEach(c -> {
+            companyMap.put(c.id(), c);
+            companyVersionMap.put(c.id(), version);
+        });
+
+        Map<Long, CatalogCategory> categoryMap = new HashMap<>();
+        categories.forEach(c -> categoryMap.put(c.id(), c));
+
+        Map<Long, CatalogProduct> productMap = new HashMap<>();
+        Map<Long, Long> revisionMap = new HashMap<>();
+        products.forEach(p -> {
+            productMap.put(p.id(), p);
+            revisionMap.put(p.id(), version);
+        });
+
+        Map<Long, CatalogOption> optionMap = new HashMap<>();
+        options.forEach(o -> optionMap.put(o.id(), o));
+
+        Map<Long, CatalogCategory> categoryView = Map.copyOf(categoryMap);
+        return new CatalogSnapshot(
+                version,
+                Map.copyOf(companyMap),
+                categoryView,
+                CategoryTree.of(categoryView.values()),
+                Map.copyOf(productMap),
+                VariantIndex.of(variants),
+                MatrixPriceIndex.of(matrixRows),
+                Map.copyOf(optionMap),
+                OptionPriceTable.of(optionMap.values()),
+                EffectiveOptionIndex.of(productMap.values(), categoryView, optionMap.values()),
+                Map.copyOf(revisionMap),
+                Map.copyOf(companyVersionMap)
+        );
+    }
+
+    /**
+     * 제품 한 건만 교체한 새 스냅샷 (관리자가 제품/규격/매트릭스를 수정한 경우)
+     * 다른 제품의 데이터와 인덱스는 그대로 공유한다.
+     *
+     * @param product  변경된 제품 (삭제된 경우 null)
+     * @param variants 해당 제품의 전체 규격
+     * @param matrixRows 해당 제품의 전체 매트릭스 행
+     */
+    public CatalogSnapshot withProduct(long newVersion,
+                                       Long productId,
+                                       CatalogProduct product,
+                                       Collection<CatalogVariant> variants,
+                                       Collection<CatalogMatrixRow> matrixRows) {
+        Map<Long, CatalogProduct> productMap = new HashMap<>(products);
+        Map<Long, Long> revisionMap = new HashMap<>(productRevisions);
+        Map<Long, Long> companyVersionMap = new HashMap<>(companyVersions);
+        // 제품의 회사가 바뀐 경우 이전 회사와 새 회사 모두 변경된 것으로 본다
+        CatalogProduct previousProduct = products.get(productId);
+        if (previousProduct != null && previousProduct.companyId() != null) {
+            companyVersionMap.put(previousProduct.companyId(), newVersion);
+        }
+        if (product != null && product.companyId() != null) {
+            companyVersionMap.put(product.companyId(), newVersion);
+        }
+        if (product != null) {
+            productMap.put(productId, product);
+            revisionMap.put(productId, newVersion);
+        } else {
+            productMap.remove(productId);
+            revisionMap.remove(productId);
+        }
+        return new CatalogSnapshot(
+                newVersion,
+                companies,
+                categories,
+                categoryTree,
+                Map.copyOf(productMap),
+                variantIndex.withProduct(productId, product != null ? variants : List.of()),
+                matrixIndex.withProduct(productId, product != null ? matrixRows : List.of()),
+                options,
+                optionPrices,
+                effectiveOptions.withProduct(productId, product, categories),
+                Map.copyOf(revisionMap),
+                Map.copyOf(companyVersionMap)
+        );
+    }
+
+    /**
+     * 변경된 회사 외 제품의 리비전과 회사 버전을 이전 스냅샷에서 이어받은 스냅샷
+     * 회사 단위 변경(카테고리 추가 등)으로 전체를 다시 읽었을 때, 다른 회사 제품의 캐시가 무효화되지 않도록 한다.
+     *
+     * @param changedCompanyId 변경된 회사 ID (null이면 전체 변경으로 보고 이어받지 않음)
+     */
+    public CatalogSnapshot withRevisionsFrom(CatalogSnapshot previous, Long changedCompanyId) {
+        if (previous == null || changedCompanyId == null) {
+            return this;
+        }
+        Map<Long, Long> revisionMap = new HashMap<>(productRevisions);
+        products.forEach((id, p) -> {
+            Long previousRevision = previous.productRevisions.get(id);
+            if (previousRevision != null && !changedCompanyId.equals(p.companyId())) {
+                revisionMap.put(id, previousRevision);
+            }
+        });
+        Map<Long, Long> companyVersionMap = new HashMap<>(companyVersions);
+        companies.keySet().forEach(id -> {
+            Long previousVersion = previous.companyVersions.get(id);
+            if (previousVersion != null && !changedCompanyId.equals(id)) {
+                companyVersionMap.put(id, previousVersion);
+            }
+        });
+        return new CatalogSnapshot(version, companies, categories, categoryTree, products, variantIndex, matrixIndex,
+                options, optionPrices, effectiveOptions, Map.copyOf(revisionMap), Map.copyOf(companyVersionMap));
+    }
+
+    public long version() {
+        return version;
+    }
+
+    /**
+     * 제품의 가격 관련 데이터가 마지막으로 바뀐 스냅샷 버전 (제품이 없으면 -1)
+     * 견적 캐시가 제품 단위로 정확히 무효화되도록 사용한다.
+     */
+    public long revision(Long productId) {
+        Long revision = productId != null ? productRevisions.get(productId) : null;
+        return revision != null ? revision : -1L;
+    }
+
+    /**
+     * 회사의 카탈로그(카테고리, 제품, 규격, 옵션)가 마지막으로 바뀐 스냅샷 버전
+     * 회사를 알 수 없으면(null 포함) 스냅샷 버전을 사용한다. 공개 조회 API의 ETag에 사용한다.
+     */
+    public long companyVersion(Long companyId) {
+        Long companyVersion = companyId != null ? companyVersions.get(companyId) : null;
+        return companyVersion != null ? companyVersion : version;
+    }
+
+    public CatalogCompany company(Long companyId) {
+        return companyId == null ? null : companies.get(companyId);
+    }
+
+    public CatalogCategory category(Long categoryId) {
+        return categoryId == null ? null : categories.get(categoryId);
+    }
+
+    public CatalogProduct product(Long productId) {
+        return productId == null ? null : products.get(productId);
+    }
+
+    /**
+     * 전체 제품 (순서 없음)
+     */
+    public Collection<CatalogProduct> products() {
+        return products.values();
+    }
+
+    /**
+     * 전체 카테고리 (순서 없음)
+     */
+    public Collection<CatalogCategory> categories() {
+        return categories.values();
+    }
+
+    /**
+     * 회사별 카테고리 트리 (메인/세부 카테고리, 상위 카테고리 목록, 코드 조회)
+     */
+    public CategoryTree categoryTree() {
+        return categoryTree;
+    }
+
+    /**
+     * 전체 옵션 (순서 없음)
+     */
+    public Collection<CatalogOption> options() {
+        return options.values();
+    }
+
+    public CatalogOption option(Long optionId) {
+        return optionId == null ? null : options.get(optionId);
+    }
+
+    /**
+     * 제품의 카테고리 코드 (없으면 null)
+     */
+    public String categoryCode(CatalogProduct product) {
+        CatalogCategory category = category(product.categoryId());
+        return category != null ? category.code() : null;
+    }
+
+    /**
+     * 제품의 부모 카테고리 코드 (메인 카테고리 제품이면 null)
+     */
+    public String parentCategoryCode(CatalogProduct product) {
+        CatalogCategory category = category(product.categoryId());
+        CatalogCategory parent = category != null ? category(category.parentId()) : null;
+        return parent != null ? parent.code() : null;
+    }
+
+    /**
+     * 제품의 카테고리 또는 부모 카테고리 코드가 code와 같은지 확인
+     */
+    public boolean isInCategory(CatalogProduct product, String code) {
+        return code.equals(categoryCode(product)) || code.equals(parentCategoryCode(product));
+    }
+
+    /**
+     * categoryId가 제품의 카테고리 또는 그 상위 카테고리인지 확인
+     */
+    public boolean isCategoryInChain(long categoryId, CatalogProduct product) {
+        return categoryTree.isInChain(categoryId, product.categoryId());
+    }
+
+    /**
+     * 선택한 옵션들의 추가 금액 합계 (OptionPriceTable)
+     *
+     * @throws IllegalArgumentException 존재하지 않거나 해당 제품에 적용할 수 없는 옵션이 있는 경우
+     */
+    public int sumOptionPrices(CatalogProduct product, List<Long> optionIds) {
+        return optionPrices.sum(this, product, optionIds);
+    }
+
+    /**
+     * 제품에 적용되는 옵션 목록 (제품 전용 + 카테고리 계층 공통 + 회사 전체 공통 옵션, 이름이 같으면 제품 전용 우선, id 순서)
+     *
+     * @param companyId 카테고리/전체 공통 옵션을 찾을 회사
+     */
+    public List<CatalogOption> effectiveOptions(CatalogProduct product, Long companyId) {
+        return effectiveOptions.options(product, companyId, categories);
+    }
+
+    /**
+     * 제품의 규격 목록 (DB id 순서)
+     */
+    public List<CatalogVariant> variants(Long productId) {
+        return variantIndex.list(productId);
+    }
+
+    /**
+     * 규격명/타입명이 일치하는 규격 조회 (없으면 null)
+     * null 값은 DB 조회와 동일하게 null끼리 일치하는 것으로 본다.
+     */
+    public CatalogVariant findVariant(Long productId, String specName, String typeName) {
+        return variantIndex.find(productId, specName, typeName);
+    }
+
+    /**
+     * (productId, optionName)의 가격 매트릭스 (없으면 null)
+     */
+    public MatrixPriceIndex.Table matrix(Long productId, String optionName) {
+        return matrixIndex.table(productId, optionName);
+    }
+
+    /**
+     * 제품의 가격 매트릭스 전체 (optionName → 가격표)
+     */
+    public Map<String, MatrixPriceIndex.Table> matrices(Long productId) {
+        return matrixIndex.tables(productId);
+    }
+}
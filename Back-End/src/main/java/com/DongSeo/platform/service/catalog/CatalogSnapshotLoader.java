@@ -0,0 +1,123 @@
+package com.DongSeo.platform.service.catalog;
+
+import com.DongSeo.platform.domain.PricingMatrix;
+import com.DongSeo.platform.domain.Product;
+import com.DongSeo.platform.domain.ProductVariant;
+import com.DongSeo.platform.repository.CategoryRepository;
+import com.DongSeo.platform.repository.CompanyRepository;
+import com.DongSeo.platform.repository.OptionRepository;
+import com.DongSeo.platform.repository.PricingMatrixRepository;
+import com.DongSeo.platform.repository.ProductRepository;
+import com.DongSeo.platform.repository.ProductVariantRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * DB에서 카탈로그 전체를 읽어 CatalogSnapshot으로 변환
+ * 테이블마다 findAll 한 번씩만 조회하며, 연관 엔티티는 id만 사용하므로 지연 로딩이 발생하지 않는다.
+ * 호출하는 쪽에서 (읽기 전용) 트랜잭션을 열어야 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CatalogSnapshotLoader {
+
+    private final CompanyRepository companyRepository;
+    private final CategoryRepository categoryRepository;
+    private final ProductRepository productRepository;
+    private final ProductVariantRepository productVariantRepository;
+    private final PricingMatrixRepository pricingMatrixRepository;
+    private final OptionRepository optionRepository;
+
+    public CatalogSnapshot load(long version) {
+        List<CatalogCompany> companies = companyRepository.findAll().stream()
+                .map(c -> new CatalogCompany(c.getId(), c.getName(), c.getCode()))
+                .collect(Collectors.toList());
+
+        List<CatalogCategory> categories = categoryRepository.findAll().stream()
+                .map(c -> new CatalogCategory(
+                        c.getId(),
+                        c.getCompany().getId(),
+                        c.getParent() != null ? c.getParent().getId() : null,
+                        c.getName(),
+                        c.getCode()))
+                .collect(Collectors.toList());
+
+        List<CatalogProduct> products = productRepository.findAll().stream()
+                .map(CatalogSnapshotLoader::toCatalogProduct)
+                .collect(Collectors.toList());
+
+        List<CatalogVariant> variants = productVariantRepository.findAll().stream()
+                .map(CatalogSnapshotLoader::toCatalogVariant)
+                .collect(Collectors.toList());
+
+        List<CatalogMatrixRow> matrixRows = pricingMatrixRepository.findAll().stream()
+                .map(CatalogSnapshotLoader::toCatalogMatrixRow)
+                .collect(Collectors.toList());
+
+        List<CatalogOption> options = optionRepository.findAll().stream()
+                .map(o -> new CatalogOption(
+                        o.getId(),
+                        o.getCompany().getId(),
+                        o.getCategory() != null ? o.getCategory().getId() : null,
+                        o.getProduct() != null ? o.getProduct().getId() : null,
+                        o.getName(),
+                        o.getAddPrice() != null ? o.getAddPrice() : 0))
+                .collect(Collectors.toList());
+
+        return CatalogSnapshot.of(version, companies, categories, products, variants, matrixRows, options);
+    }
+
+    /**
+     * 제품 한 건(제품, 규격, 매트릭스)만 다시 읽어 이전 스냅샷에 반영
+     */
+    public CatalogSnapshot loadProduct(CatalogSnapshot previous, long version, Long productId) {
+        CatalogProduct product = productRepository.findById(productId)
+                .map(CatalogSnapshotLoader::toCatalogProduct)
+                .orElse(null);
+        if (product == null) {
+            return previous.withProduct(version, productId, null, List.of(), List.of());
+        }
+
+        List<CatalogVariant> variants = productVariantRepository.findByProductId(productId).stream()
+                .map(CatalogSnapshotLoader::toCatalogVariant)
+                .collect(Collectors.toList());
+        List<CatalogMatrixRow> matrixRows = pricingMatrixRepository.findByProductId(productId).stream()
+                .map(CatalogSnapshotLoader::toCatalogMatrixRow)
+                .collect(Collectors.toList());
+        return previous.withProduct(version, productId, product, variants, matrixRows);
+    }
+
+    private static CatalogProduct toCatalogProduct(Product p) {
+        return new CatalogProduct(
+                p.getId(),
+                p.getCompany().getId(),
+                p.getCategory().getId(),
+                p.getName(),
+                p.getBasePrice(),
+                p.getDescription(),
+                p.getSize());
+    }
+
+    private static CatalogVariant toCatalogVariant(ProductVariant v) {
+        return new CatalogVariant(
+                v.getId(),
+                v.getProduct().getId(),
+                v.getSpecName(),
+                v.getTypeName(),
+                v.getPrice(),
+                v.getNote());
+    }
+
+    private static CatalogMatrixRow toCatalogMatrixRow(PricingMatrix m) {
+        return new CatalogMatrixRow(
+                m.getId(),
+                m.getProduct().getId(),
+                m.getOptionName(),
+                m.getMaxWidth(),
+                m.getMaxHeight(),
+                m.getPrice());
+    }
+}
@@ -0,0 +1,7 @@
+package com.DongSeo.platform.service.catalog;
+
+/**
+ * 카탈로그 스냅샷의 제품 규격(variant) 항목 (읽기 전용)
+ */
+public record CatalogVariant(Long id, Long productId, String specName, String typeName, Integer price, String note) {
+}
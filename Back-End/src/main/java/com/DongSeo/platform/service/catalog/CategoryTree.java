@@ -0,0 +1,164 @@
+package com.DongSeo.platform.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 회사별 카테고리 트리 (불변)
+ *
+ * 카테고리 목록으로 부모/자식 링크, 노드별 상위 카테고리 목록(루트부터), 회사별 코드 → 노드 맵을 미리 만들어 둔다.
+ * 메인 카테고리/세부 카테고리/상위 카테고리 조회를 DB 없이 처리한다. 형제 노드는 id 순서.
+ * 카테고리가 추가되면(관리자 카테고리 등록) 스냅샷 전체를 다시 읽으면서 새로 만든다.
+ */
+public final class CategoryTree {
+
+    private static final Comparator<Node> BY_ID = Comparator.comparing(Node::id);
+
+    private final Map<Long, Node> nodes;
+    private final List<Node> roots;
+    private final Map<Long, List<Node>> rootsByCompany;
+    private final Map<Long, Map<String, Node>> codesByCompany;
+
+    private CategoryTree(Map<Long, Node> nodes, List<Node> roots,
+                         Map<Long, List<Node>> rootsByCompany, Map<Long, Map<String, Node>> codesByCompany) {
+        this.nodes = nodes;
+        this.roots = roots;
+        this.rootsByCompany = rootsByCompany;
+        this.codesByCompany = codesByCompany;
+    }
+
+    public static CategoryTree of(Collection<CatalogCategory> categories) {
+        Map<Long, Node> nodes = new HashMap<>();
+        categories.forEach(c -> nodes.put(c.id(), new Node(c)));
+
+        List<Node> roots = new ArrayList<>();
+        Map<Long, List<Node>> rootsByCompany = new HashMap<>();
+        Map<Long, Map<String, Node>> codesByCompany = new HashMap<>();
+        nodes.values().stream().sorted(BY_ID).forEach(node -> {
+            Node parent = node.category.parentId() != null ? nodes.get(node.category.parentId()) : null;
+            if (parent != null && parent != node) {
+                node.parent = parent;
+                parent.children.add(node);
+            } else {
+                // 부모가 없거나 스냅샷에 없는 부모를 가리키면 메인 카테고리로 본다
+                roots.add(node);
+                rootsByCompany.computeIfAbsent(node.category.companyId(), k -> new ArrayList<>()).add(node);
+            }
+            if (node.category.code() != null) {
+                codesByCompany.computeIfAbsent(node.category.companyId(), k -> new HashMap<>())
+                        .putIfAbsent(node.category.code(), node);
+            }
+        });
+
+        for (Node node : nodes.values()) {
+            node.children = List.copyOf(node.children);
+            node.ancestors = ancestorsOf(node, nodes.size());
+        }
+        rootsByCompany.replaceAll((k, v) -> List.copyOf(v));
+        codesByCompany.replaceAll((k, v) -> Map.copyOf(v));
+        return new CategoryTree(Map.copyOf(nodes), List.copyOf(roots), Map.copyOf(rootsByCompany), Map.copyOf(codesByCompany));
+    }
+
+    /**
+     * 루트부터 부모까지 (자신 제외)
+     */
+    private static List<Node> ancestorsOf(Node node, int maxDepth) {
+        List<Node> ancestors = new ArrayList<>();
+        // 잘못된 데이터로 parent가 순환하더라도 끝나도록 깊이를 제한
+        for (Node current = node.parent; current != null && ancestors.size() < maxDepth; current = current.parent) {
+            ancestors.add(current);
+        }
+        Collections.reverse(ancestors);
+        return List.copyOf(ancestors);
+    }
+
+    public Node node(Long categoryId) {
+        return categoryId == null ? null : nodes.get(categoryId);
+    }
+
+    /**
+     * 메인 카테고리 (id 순서)
+     *
+     * @param companyId 회사 ID (null이면 전체 회사)
+     */
+    public List<Node> roots(Long companyId) {
+        return companyId == null ? roots : rootsByCompany.getOrDefault(companyId, List.of());
+    }
+
+    /**
+     * 하위 카테고리 (id 순서, 카테고리가 없으면 빈 목록)
+     */
+    public List<Node> children(Long parentId) {
+        Node parent = node(parentId);
+        return parent != null ? parent.children : List.of();
+    }
+
+    /**
+     * 회사 안에서 코드로 조회 (없으면 null)
+     */
+    public Node findByCode(Long companyId, String code) {
+        Map<String, Node> codes = codesByCompany.get(companyId);
+        return codes != null && code != null ? codes.get(code) : null;
+    }
+
+    /**
+     * ancestorId가 categoryId 자신이거나 그 상위 카테고리인지 확인
+     */
+    public boolean isInChain(long ancestorId, Long categoryId) {
+        Node node = node(categoryId);
+        if (node == null) {
+            return false;
+        }
+        if (node.id() == ancestorId) {
+            return true;
+        }
+        for (Node ancestor : node.ancestors) {
+            if (ancestor.id() == ancestorId) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 카테고리 노드 (생성 중에만 링크를 채우고 이후에는 읽기 전용)
+     */
+    public static final class Node {
+        private final CatalogCategory category;
+        private Node parent;
+        private List<Node> children = new ArrayList<>();
+        private List<Node> ancestors = List.of();
+
+        private Node(CatalogCategory category) {
+            this.category = category;
+        }
+
+        public long id() {
+            return category.id();
+        }
+
+        public CatalogCategory category() {
+            return category;
+        }
+
+        /** 부모 (메인 카테고리면 null) */
+        public Node parent() {
+            return parent;
+        }
+
+        /** 하위 카테고리 (id 순서) */
+        public List<Node> children() {
+            return children;
+        }
+
+        /** 루트부터 부모까지 (자신 제외, 메인 카테고리면 빈 목록) */
+        public List<Node> ancestors() {
+            return ancestors;
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.DongSeo.platform.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 제품별 적용 옵션 목록 인덱스 (불변)
+ *
+ * /api/options?productId= 응답을 스냅샷을 만들 때 제품마다 미리 계산해 둔다.
+ * 제품 전용 옵션 + 제품 카테고리와 상위 카테고리의 공통 옵션 + 회사 전체 공통 옵션(카테고리, 제품 모두 없음)을 합치고,
+ * 이름이 같으면 제품 전용 → 하위 카테고리 → 상위 카테고리 → 전체 공통 순으로 앞선 옵션을 사용한다. 결과는 옵션 id 순서.
+ * 적용 범위는 견적 계산의 옵션 검증(OptionPriceTable)과 같다.
+ * 옵션/카테고리가 바뀌면 스냅샷 전체를, 제품이 바뀌면 그 제품의 목록만 다시 계산한다.
+ */
+public final class EffectiveOptionIndex {
+
+    private static final Comparator<CatalogOption> BY_ID = Comparator.comparing(CatalogOption::id);
+
+    /** productId → 제품 전용 옵션 (id 순서) */
+    private final Map<Long, List<CatalogOption>> productOptions;
+    /** (companyId, categoryId) → 제품이 지정되지 않은 카테고리 공통 옵션 (id 순서) */
+    private final Map<CategoryKey, List<CatalogOption>> categoryOptions;
+    /** companyId → 카테고리와 제품이 모두 지정되지 않은 전체 공통 옵션 (id 순서) */
+    private final Map<Long, List<CatalogOption>> companyOptions;
+    /** productId → 적용 옵션 목록 (제품 회사 기준) */
+    private final Map<Long, List<CatalogOption>> effective;
+
+    private EffectiveOptionIndex(Map<Long, List<CatalogOption>> productOptions,
+                                 Map<CategoryKey, List<CatalogOption>> categoryOptions,
+                                 Map<Long, List<CatalogOption>> companyOptions,
+                                 Map<Long, List<CatalogOption>> effective) {
+        this.productOptions = productOptions;
+        this.categoryOptions = categoryOptions;
+        this.companyOptions = companyOptions;
+        this.effective = effective;
+    }
+
+    public static EffectiveOptionIndex of(Collection<CatalogProduct> products,
+                                          Map<Long, CatalogCategory> categories,
+                                          Collection<CatalogOption> options) {
+        Map<Long, List<CatalogOption>> byProduct = new HashMap<>();
+        Map<CategoryKey, List<CatalogOption>> byCategory = new HashMap<>();
+        Map<Long, List<CatalogOption>> byCompany = new HashMap<>();
+        options.stream().sorted(BY_ID).forEach(o -> {
+            if (o.productId() != null) {
+                byProduct.computeIfAbsent(o.productId(), k -> new ArrayList<>()).add(o);
+            } else if (o.categoryId() != null) {
+                byCategory.computeIfAbsent(new CategoryKey(o.companyId(), o.categoryId()), k -> new ArrayList<>()).add(o);
+            } else if (o.companyId() != null) {
+                byCompany.computeIfAbsent(o.companyId(), k -> new ArrayList<>()).add(o);
+            }
+        });
+        byProduct.replaceAll((k, v) -> List.copyOf(v));
+        byCategory.replaceAll((k, v) -> List.copyOf(v));
+        byCompany.replaceAll((k, v) -> List.copyOf(v));
+
+        EffectiveOptionIndex partial = new EffectiveOptionIndex(
+                Map.copyOf(byProduct), Map.copyOf(byCategory), Map.copyOf(byCompany), Map.of());
+        Map<Long, List<CatalogOption>> effective = new HashMap<>();
+        for (CatalogProduct p : products) {
+            effective.put(p.id(), partial.compute(p, p.companyId(), categories));
+        }
+        return new EffectiveOptionIndex(partial.productOptions, partial.categoryOptions, partial.companyOptions,
+                Map.copyOf(effective));
+    }
+
+    /**
+     * 한 제품의 목록만 다시 계산한 새 인덱스 (제품의 카테고리가 바뀐 경우 등)
+     *
+     * @param product 변경된 제품 (삭제된 경우 null)
+     */
+    public EffectiveOptionIndex withProduct(Long productId, CatalogProduct product, Map<Long, CatalogCategory> categories) {
+        Map<Long, List<CatalogOption>> next = new HashMap<>(effective);
+        if (product != null) {
+            next.put(productId, compute(product, product.companyId(), categories));
+        } else {
+            next.remove(productId);
+        }
+        return new EffectiveOptionIndex(productOptions, categoryOptions, companyOptions, Map.copyOf(next));
+    }
+
+    /**
+     * 제품의 적용 옵션 목록
+     *
+     * @param companyId 카테고리/전체 공통 옵션을 찾을 회사 (제품의 회사와 다르면 미리 계산한 목록 대신 새로 계산)
+     */
+    public List<CatalogOption> options(CatalogProduct product, Long companyId, Map<Long, CatalogCategory> categories) {
+        if (companyId != null && companyId.equals(product.companyId())) {
+            List<CatalogOption> precomputed = effective.get(product.id());
+            if (precomputed != null) {
+                return precomputed;
+            }
+        }
+        return compute(product, companyId, categories);
+    }
+
+    private List<CatalogOption> compute(CatalogProduct product, Long companyId, Map<Long, CatalogCategory> categories) {
+        Map<String, CatalogOption> byName = new LinkedHashMap<>();
+        productOptions.getOrDefault(product.id(), List.of()).forEach(o -> byName.putIfAbsent(o.name(), o));
+
+        CatalogCategory current = product.categoryId() != null ? categories.get(product.categoryId()) : null;
+        // 잘못된 데이터로 parent가 순환하더라도 끝나도록 깊이를 제한
+        for (int depth = 0; current != null && depth <= categories.size(); depth++) {
+            categoryOptions.getOrDefault(new CategoryKey(companyId, current.id()), List.of())
+                    .forEach(o -> byName.putIfAbsent(o.name(), o));
+            current = current.parentId() != null ? categories.get(current.parentId()) : null;
+        }
+        if (companyId != null) {
+            companyOptions.getOrDefault(companyId, List.of()).forEach(o -> byName.putIfAbsent(o.name(), o));
+        }
+
+        List<CatalogOption> result = new ArrayList<>(byName.values());
+        result.sort(BY_ID);
+        return List.copyOf(result);
+    }
+
+    private record CategoryKey(Long companyId, Long categoryId) {
+    }
+}
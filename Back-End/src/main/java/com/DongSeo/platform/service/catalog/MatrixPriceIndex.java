@@ -0,0 +1,261 @@
+package com.DongSeo.platform.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 가격 매트릭스(price_matrix) 인덱스 (불변)
+ *
+ * (productId, optionName)마다 maxWidth 오름차순 구간 배열과, 각 가로 구간 안의 maxHeight 오름차순 배열을
+ * int 배열로 보관한다. 조회는 이진 탐색이며 객체를 만들지 않는다.
+ * 제품 단위로 테이블이 나뉘어 있어, 한 제품의 매트릭스가 바뀌면 그 제품의 테이블만 다시 만든다.
+ */
+public final class MatrixPriceIndex {
+
+    /** maxHeight가 비어 있는 행은 세로 제한이 없는 것으로 본다 */
+    private static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private static final Comparator<CatalogMatrixRow> ROW_ORDER = Comparator
+            .comparing(CatalogMatrixRow::maxWidth)
+            .thenComparing(m -> m.maxHeight() != null ? m.maxHeight() : UNBOUNDED)
+            .thenComparing(CatalogMatrixRow::id);
+
+    private static final MatrixPriceIndex EMPTY = new MatrixPriceIndex(Map.of());
+
+    private final Map<Long, Map<String, Table>> tablesByProduct;
+
+    private MatrixPriceIndex(Map<Long, Map<String, Table>> tablesByProduct) {
+        this.tablesByProduct = tablesByProduct;
+    }
+
+    public static MatrixPriceIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 매트릭스 행으로 인덱스 생성
+     */
+    public static MatrixPriceIndex of(Collection<CatalogMatrixRow> rows) {
+        Map<Long, List<CatalogMatrixRow>> byProduct = new HashMap<>();
+        rows.forEach(m -> byProduct.computeIfAbsent(m.productId(), k -> new ArrayList<>()).add(m));
+
+        Map<Long, Map<String, Table>> tables = new HashMap<>();
+        byProduct.forEach((productId, productRows) -> {
+            Map<String, Table> productTables = buildProductTables(productRows);
+            if (!productTables.isEmpty()) {
+                tables.put(productId, productTables);
+            }
+        });
+        return new MatrixPriceIndex(Map.copyOf(tables));
+    }
+
+    /**
+     * 한 제품의 매트릭스만 교체한 새 인덱스 (다른 제품의 테이블은 그대로 공유)
+     *
+     * @param rows 해당 제품의 전체 매트릭스 행 (비어 있으면 제품 제거)
+     */
+    public MatrixPriceIndex withProduct(Long productId, Collection<CatalogMatrixRow> rows) {
+        Map<Long, Map<String, Table>> tables = new HashMap<>(tablesByProduct);
+        Map<String, Table> productTables = buildProductTables(rows);
+        if (productTables.isEmpty()) {
+            tables.remove(productId);
+        } else {
+            tables.put(productId, productTables);
+        }
+        return new MatrixPriceIndex(Map.copyOf(tables));
+    }
+
+    /**
+     * (productId, optionName)의 가격표 (없으면 null)
+     */
+    public Table table(Long productId, String optionName) {
+        Map<String, Table> productTables = tablesByProduct.get(productId);
+        return productTables != null && optionName != null ? productTables.get(optionName) : null;
+    }
+
+    /**
+     * 제품의 가격표 전체 (optionName → 가격표)
+     */
+    public Map<String, Table> tables(Long productId) {
+        return tablesByProduct.getOrDefault(productId, Map.of());
+    }
+
+    private static Map<String, Table> buildProductTables(Collection<CatalogMatrixRow> rows) {
+        Map<String, List<CatalogMatrixRow>> byOption = new HashMap<>();
+        for (CatalogMatrixRow m : rows) {
+            // 기존 조회와 동일하게 optionName/maxWidth/price가 없는 행은 조회 대상이 아님
+            if (m.optionName() != null && m.maxWidth() != null && m.price() != null) {
+                byOption.computeIfAbsent(m.optionName(), k -> new ArrayList<>()).add(m);
+            }
+        }
+        Map<String, Table> tables = new HashMap<>();
+        byOption.forEach((optionName, optionRows) -> tables.put(optionName, Table.of(optionRows)));
+        return Map.copyOf(tables);
+    }
+
+    /**
+     * 한 (productId, optionName)의 가격표
+     *
+     * widths[b]       : b번째 가로 구간의 maxWidth (오름차순, 중복 없음)
+     * bandStart[b]    : b번째 가로 구간의 첫 행 위치 (bandStart[widths.length]는 전체 행 수)
+     * heights[r], prices[r] : 행 r의 maxHeight, 가격 (구간 안에서 maxHeight 오름차순)
+     */
+    public static final class Table {
+
+        public static final int NOT_FOUND = -1;
+        /** 가로 구간은 있지만 그 구간 안에 세로가 맞는 행이 없음 (세로 초과) */
+        public static final int HEIGHT_EXCEEDED = -2;
+
+        private final int[] widths;
+        private final int[] bandStart;
+        private final int[] heights;
+        private final int[] prices;
+
+        private Table(int[] widths, int[] bandStart, int[] heights, int[] prices) {
+            this.widths = widths;
+            this.bandStart = bandStart;
+            this.heights = heights;
+            this.prices = prices;
+        }
+
+        static Table of(List<CatalogMatrixRow> rows) {
+            List<CatalogMatrixRow> sorted = new ArrayList<>(rows);
+            sorted.sort(ROW_ORDER);
+
+            int[] widths = new int[sorted.size()];
+            int[] bandStart = new int[sorted.size() + 1];
+            int[] heights = new int[sorted.size()];
+            int[] prices = new int[sorted.size()];
+            int bands = 0;
+            for (int r = 0; r < sorted.size(); r++) {
+                CatalogMatrixRow m = sorted.get(r);
+                if (bands == 0 || widths[bands - 1] != m.maxWidth()) {
+                    widths[bands] = m.maxWidth();
+                    bandStart[bands] = r;
+                    bands++;
+                }
+                heights[r] = m.maxHeight() != null ? m.maxHeight() : UNBOUNDED;
+                prices[r] = m.price();
+            }
+            bandStart[bands] = sorted.size();
+            return new Table(Arrays.copyOf(widths, bands), Arrays.copyOf(bandStart, bands + 1), heights, prices);
+        }
+
+        /**
+         * 가로폭만으로 조회: width 이상인 구간 중 가장 작은 구간의 행 (구간 안에서는 가장 낮은 세로 구간)
+         *
+         * @return 행 위치, 없으면 NOT_FOUND
+         */
+        public int find(int width) {
+            int band = lowerBound(widths, 0, widths.length, width);
+            return band < widths.length ? bandStart[band] : NOT_FOUND;
+        }
+
+        /**
+         * 가로×세로 조회: width가 속한 가로 구간(maxWidth >= width 중 가장 작은 구간) 안에서 maxHeight >= height 인 가장 낮은 행
+         * 세로가 구간의 모든 행보다 크더라도 더 넓은 가로 구간으로 넘어가지 않는다.
+         *
+         * @return 행 위치, 가로 구간이 없으면 NOT_FOUND, 구간 안에 맞는 세로가 없으면 HEIGHT_EXCEEDED
+         */
+        public int find(int width, int height) {
+            int band = lowerBound(widths, 0, widths.length, width);
+            if (band == widths.length) {
+                return NOT_FOUND;
+            }
+            int end = bandStart[band + 1];
+            int row = lowerBound(heights, bandStart[band], end, height);
+            return row < end ? row : HEIGHT_EXCEEDED;
+        }
+
+        /**
+         * width가 속한 가로 구간의 가장 큰 maxHeight (세로 초과 안내용, 가로 구간이 없으면 NOT_FOUND)
+         */
+        public int bandMaxHeight(int width) {
+            int band = lowerBound(widths, 0, widths.length, width);
+            return band < widths.length ? heights[bandStart[band + 1] - 1] : NOT_FOUND;
+        }
+
+        public int price(int row) {
+            return prices[row];
+        }
+
+        public int maxHeight(int row) {
+            return heights[row];
+        }
+
+        /**
+         * 행이 속한 가로 구간의 maxWidth
+         */
+        public int maxWidth(int row) {
+            int band = Arrays.binarySearch(bandStart, 0, widths.length, row);
+            return widths[band >= 0 ? band : -band - 2];
+        }
+
+        public int bandCount() {
+            return widths.length;
+        }
+
+        /**
+         * b번째 가로 구간의 maxWidth
+         */
+        public int bandMaxWidth(int band) {
+            return widths[band];
+        }
+
+        /**
+         * b번째 가로 구간의 행 범위 [bandFirstRow, bandEndRow)
+         */
+        public int bandFirstRow(int band) {
+            return bandStart[band];
+        }
+
+        public int bandEndRow(int band) {
+            return bandStart[band + 1];
+        }
+
+        /**
+         * 세로 제한이 없는 행인지 (maxHeight가 비어 있던 행)
+         */
+        public boolean isHeightUnbounded(int row) {
+            return heights[row] == UNBOUNDED;
+        }
+
+        public int rowCount() {
+            return prices.length;
+        }
+
+        /**
+         * 세로 구간이 실제로 나뉘어 있는지 (모든 행이 세로 제한 없음/동일하면 false)
+         */
+        public boolean hasHeightBands() {
+            for (int band = 0; band < widths.length; band++) {
+                if (bandStart[band + 1] - bandStart[band] > 1) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        /**
+         * sorted[from, to) 에서 key 이상인 첫 위치 (없으면 to)
+         */
+        private static int lowerBound(int[] sorted, int from, int to, int key) {
+            int lo = from;
+            int hi = to;
+            while (lo < hi) {
+                int mid = (lo + hi) >>> 1;
+                if (sorted[mid] < key) {
+                    lo = mid + 1;
+                } else {
+                    hi = mid;
+                }
+            }
+            return lo;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package com.DongSeo.platform.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 옵션 ID → 추가 금액(addPrice) 표 (불변)
+ *
+ * long 키 open addressing 테이블과 병렬 배열로 구성되어, 옵션 합산 루프에서 객체를 만들지 않는다.
+ * 합산 시 각 옵션이 제품의 회사 / 카테고리 계층 / 제품에 속하는지 함께 검증하고,
+ * 존재하지 않거나 적용할 수 없는 옵션은 조용히 무시하지 않고 예외로 알린다.
+ */
+public final class OptionPriceTable {
+
+    /** id, categoryId, productId가 없는 칸 (DB id는 1부터 시작) */
+    private static final long NONE = 0L;
+
+    private final long[] keys;
+    private final int[] addPrices;
+    private final long[] companyIds;
+    private final long[] categoryIds;
+    private final long[] productIds;
+    private final int mask;
+
+    private OptionPriceTable(int capacity) {
+        this.keys = new long[capacity];
+        this.addPrices = new int[capacity];
+        this.companyIds = new long[capacity];
+        this.categoryIds = new long[capacity];
+        this.productIds = new long[capacity];
+        this.mask = capacity - 1;
+    }
+
+    public static OptionPriceTable of(Collection<CatalogOption> options) {
+        int capacity = Integer.highestOneBit(Math.max(2, options.size() * 2 - 1)) << 1;
+        OptionPriceTable table = new OptionPriceTable(capacity);
+        for (CatalogOption o : options) {
+            int slot = table.slotFor(o.id());
+            table.keys[slot] = o.id();
+            table.addPrices[slot] = o.addPrice();
+            table.companyIds[slot] = o.companyId() != null ? o.companyId() : NONE;
+            table.categoryIds[slot] = o.categoryId() != null ? o.categoryId() : NONE;
+            table.productIds[slot] = o.productId() != null ? o.productId() : NONE;
+        }
+        return table;
+    }
+
+    /**
+     * 선택한 옵션들의 추가 금액 합계
+     * 같은 옵션 ID가 여러 번 들어오면 한 번만 더한다. (기존 findAllById 동작과 동일)
+     *
+     * @throws IllegalArgumentException 존재하지 않거나 해당 제품에 적용할 수 없는 옵션이 있는 경우
+     */
+    public int sum(CatalogSnapshot catalog, CatalogProduct product, List<Long> optionIds) {
+        int total = 0;
+        boolean invalid = false;
+        for (int i = 0; i < optionIds.size(); i++) {
+            Long optionId = optionIds.get(i);
+            if (optionId == null || isDuplicate(optionIds, i)) {
+                continue;
+            }
+            int slot = find(optionId);
+            if (slot < 0 || !appliesTo(catalog, product, slot)) {
+                invalid = true;
+                continue;
+            }
+            total += addPrices[slot];
+        }
+        if (invalid) {
+            throw invalidOptions(catalog, product, optionIds);
+        }
+        return total;
+    }
+
+    private boolean appliesTo(CatalogSnapshot catalog, CatalogProduct product, int slot) {
+        if (product.companyId() == null || companyIds[slot] != product.companyId()) {
+            return false;
+        }
+        if (productIds[slot] != NONE) {
+            return productIds[slot] == product.id();
+        }
+        // 카테고리 공통 옵션: 전체 공통(카테고리 없음)이거나 제품 카테고리 계층에 속해야 함
+        return categoryIds[slot] == NONE || catalog.isCategoryInChain(categoryIds[slot], product);
+    }
+
+    /**
+     * 오류 경로에서만 목록을 만들어 어떤 ID가 문제인지 알려준다
+     */
+    private IllegalArgumentException invalidOptions(CatalogSnapshot catalog, CatalogProduct product, List<Long> optionIds) {
+        List<Long> unknown = new ArrayList<>();
+        List<Long> notApplicable = new ArrayList<>();
+        for (Long optionId : optionIds) {
+            if (optionId == null || unknown.contains(optionId) || notApplicable.contains(optionId)) {
+                continue;
+            }
+            int slot = find(optionId);
+            if (slot < 0) {
+                unknown.add(optionId);
+            } else if (!appliesTo(catalog, product, slot)) {
+                notApplicable.add(optionId);
+            }
+        }
+        StringBuilder message = new StringBuilder();
+        if (!unknown.isEmpty()) {
+            message.append("존재하지 않는 옵션입니다: ").append(unknown);
+        }
+        if (!notApplicable.isEmpty()) {
+            if (message.length() > 0) message.append(", ");
+            message.append("해당 제품에 적용할 수 없는 옵션입니다: ").append(notApplicable);
+        }
+        return new IllegalArgumentException(message.toString());
+    }
+
+    private static boolean isDuplicate(List<Long> optionIds, int index) {
+        long id = optionIds.get(index);
+        for (int j = 0; j < index; j++) {
+            Long other = optionIds.get(j);
+            if (other != null && other == id) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return 옵션의 슬롯 위치, 없으면 -1
+     */
+    private int find(long id) {
+        int slot = mix(id) & mask;
+        long key;
+        while ((key = keys[slot]) != NONE) {
+            if (key == id) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int slotFor(long id) {
+        int slot = mix(id) & mask;
+        while (keys[slot] != NONE && keys[slot] != id) {
+            slot = (slot + 1) & mask;
+        }
+        return slot;
+    }
+
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
@@ -0,0 +1,140 @@
+package com.DongSeo.platform.service.catalog;
+
+import com.DongSeo.platform.config.datasource.ReplicaRouting;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 현재 카탈로그 스냅샷 보관소
+ *
+ * 읽기: current()는 volatile 참조 하나만 읽으므로 락이 없고, 항상 완성된 스냅샷을 본다.
+ * 쓰기: 관리자 변경(CatalogChangedEvent)이 커밋되면 새 스냅샷을 만들어 참조를 통째로 교체한다.
+ *       제품 단위 변경은 해당 제품의 제품/규격/매트릭스만 다시 읽고 나머지는 이전 스냅샷과 공유한다.
+ * 재구성은 락으로 직렬화하여 늦게 시작한 재구성이 최신 DB 상태를 반영하도록 한다.
+ * (DB를 읽는 동안 락을 쥐므로 synchronized 대신 ReentrantLock - 가상 스레드가 캐리어 스레드에 고정되지 않게 함)
+ * 교체 후에는 CatalogRefreshedEvent를 발행하여 파생 인덱스들이 새 스냅샷을 반영하게 한다.
+ */
+@Slf4j
+@Component
+public class PricingCatalog implements SmartInitializingSingleton {
+
+    private final CatalogSnapshotLoader loader;
+    private final TransactionTemplate readOnlyTx;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AtomicLong versionSequence = new AtomicLong();
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private final long epoch = System.currentTimeMillis();
+
+    private volatile CatalogSnapshot snapshot;
+
+    public PricingCatalog(CatalogSnapshotLoader loader,
+                          PlatformTransactionManager transactionManager,
+                          ApplicationEventPublisher eventPublisher) {
+        this.loader = loader;
+        this.eventPublisher = eventPublisher;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        // 커밋 이후에 호출되므로 기존 트랜잭션에 참여하지 않도록 새 트랜잭션으로 읽는다
+        // 방금 커밋한 내용을 읽어야 하므로 replica가 있어도 primary에서 읽는다 (ReplicaRouting.onPrimary)
+        this.readOnlyTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.readOnlyTx.setReadOnly(true);
+    }
+
+    /**
+     * 기동 시 (스키마/시드 초기화가 끝난 뒤) 최초 스냅샷 적재
+     */
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    /**
+     * 현재 스냅샷 (락 없음)
+     */
+    public CatalogSnapshot current() {
+        CatalogSnapshot current = snapshot;
+        return current != null ? current : refresh();
+    }
+
+    /**
+     * 기동 시각
+     * 스냅샷 버전/리비전은 재시작하면 1부터 다시 시작하므로, ETag 등 프로세스 밖에 남는 버전 값에는 이 값을 함께 넣는다.
+     */
+    public long epoch() {
+        return epoch;
+    }
+
+    /**
+     * 관리자 쓰기 트랜잭션 커밋 후 스냅샷 재구성
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCatalogChanged(CatalogChangedEvent event) {
+        log.debug("카탈로그 변경 감지: companyId={}, productId={}", event.companyId(), event.productId());
+        if (event.productId() != null) {
+            refreshProduct(event.productId());
+        } else {
+            refresh(event.companyId());
+        }
+    }
+
+    /**
+     * DB에서 새 스냅샷을 만들어 교체 (전체 변경)
+     */
+    public CatalogSnapshot refresh() {
+        return refresh(null);
+    }
+
+    /**
+     * DB에서 새 스냅샷을 만들어 교체
+     *
+     * @param changedCompanyId 변경된 회사 (null이면 전체). 다른 회사 제품의 리비전은 유지된다.
+     */
+    public CatalogSnapshot refresh(Long changedCompanyId) {
+        refreshLock.lock();
+        try {
+            long startedAt = System.currentTimeMillis();
+            long version = versionSequence.incrementAndGet();
+            CatalogSnapshot previous = snapshot;
+            CatalogSnapshot next = ReplicaRouting.onPrimary(() -> readOnlyTx.execute(status -> loader.load(version)))
+                    .withRevisionsFrom(previous, changedCompanyId);
+            snapshot = next;
+            log.info("카탈로그 스냅샷 교체: version={}, elapsed={}ms", version, System.currentTimeMillis() - startedAt);
+            eventPublisher.publishEvent(new CatalogRefreshedEvent(next));
+            return next;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * 제품 한 건만 다시 읽어 반영한 스냅샷으로 교체
+     */
+    public CatalogSnapshot refreshProduct(Long productId) {
+        refreshLock.lock();
+        try {
+            CatalogSnapshot previous = snapshot;
+            if (previous == null) {
+                return refresh();
+            }
+            long startedAt = System.currentTimeMillis();
+            long version = versionSequence.incrementAndGet();
+            CatalogSnapshot next = ReplicaRouting.onPrimary(
+                    () -> readOnlyTx.execute(status -> loader.loadProduct(previous, version, productId)));
+            snapshot = next;
+            log.info("카탈로그 스냅샷 교체 (제품 단위): version={}, productId={}, elapsed={}ms",
+                    version, productId, System.currentTimeMillis() - startedAt);
+            eventPublisher.publishEvent(new CatalogRefreshedEvent(next));
+            return next;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.DongSeo.platform.service.catalog;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 제품 규격(product_variants) 인덱스 (불변)
+ *
+ * (productId, specName, typeName) → 규격을 O(1)로 찾는다.
+ * 제품마다 (specName, typeName) 해시의 open addressing 테이블을 두며,
+ * String.hashCode()는 캐시되므로 조회 경로에서 객체를 만들지 않는다.
+ * 제품별 규격 목록(DB id 순서)도 함께 보관하여 /api/variants 응답에 그대로 사용한다.
+ */
+public final class VariantIndex {
+
+    private static final VariantIndex EMPTY = new VariantIndex(Map.of());
+
+    private final Map<Long, ProductVariants> byProduct;
+
+    private VariantIndex(Map<Long, ProductVariants> byProduct) {
+        this.byProduct = byProduct;
+    }
+
+    public static VariantIndex empty() {
+        return EMPTY;
+    }
+
+    /**
+     * 전체 규격으로 인덱스 생성
+     */
+    public static VariantIndex of(Collection<CatalogVariant> variants) {
+        Map<Long, List<CatalogVariant>> grouped = new HashMap<>();
+        variants.forEach(v -> grouped.computeIfAbsent(v.productId(), k -> new ArrayList<>()).add(v));
+
+        Map<Long, ProductVariants> byProduct = new HashMap<>();
+        grouped.forEach((productId, productVariants) -> byProduct.put(productId, ProductVariants.of(productVariants)));
+        return new VariantIndex(Map.copyOf(byProduct));
+    }
+
+    /**
+     * 한 제품의 규격만 교체한 새 인덱스 (다른 제품은 그대로 공유)
+     *
+     * @param variants 해당 제품의 전체 규격 (비어 있으면 제품 제거)
+     */
+    public VariantIndex withProduct(Long productId, Collection<CatalogVariant> variants) {
+        Map<Long, ProductVariants> next = new HashMap<>(byProduct);
+        if (variants.isEmpty()) {
+            next.remove(productId);
+        } else {
+            next.put(productId, ProductVariants.of(variants));
+        }
+        return new VariantIndex(Map.copyOf(next));
+    }
+
+    /**
+     * 규격명/타입명이 일치하는 규격 (없으면 null)
+     * null 값은 DB 조회와 동일하게 null끼리 일치하는 것으로 본다.
+     */
+    public CatalogVariant find(Long productId, String specName, String typeName) {
+        ProductVariants variants = productId != null ? byProduct.get(productId) : null;
+        return variants != null ? variants.find(specName, typeName) : null;
+    }
+
+    /**
+     * 제품의 규격 목록 (DB id 순서)
+     */
+    public List<CatalogVariant> list(Long productId) {
+        ProductVariants variants = productId != null ? byProduct.get(productId) : null;
+        return variants != null ? variants.ordered : List.of();
+    }
+
+    /**
+     * 한 제품의 규격 해시 테이블
+     * slots에는 ordered의 위치 + 1을 저장하며 0은 빈 슬롯이다.
+     */
+    private static final class ProductVariants {
+
+        private final List<CatalogVariant> ordered;
+        private final int[] slots;
+        private final int mask;
+
+        private ProductVariants(List<CatalogVariant> ordered, int[] slots) {
+            this.ordered = ordered;
+            this.slots = slots;
+            this.mask = slots.length - 1;
+        }
+
+        static ProductVariants of(Collection<CatalogVariant> variants) {
+            List<CatalogVariant> ordered = variants.stream()
+                    .sorted(Comparator.comparing(CatalogVariant::id))
+                    .toList();
+
+            int capacity = Integer.highestOneBit(Math.max(2, ordered.size() * 2 - 1)) << 1;
+            int[] slots = new int[capacity];
+            int mask = capacity - 1;
+            for (int i = 0; i < ordered.size(); i++) {
+                CatalogVariant v = ordered.get(i);
+                int slot = hash(v.specName(), v.typeName()) & mask;
+                while (slots[slot] != 0) {
+                    CatalogVariant existing = ordered.get(slots[slot] - 1);
+                    if (matches(existing, v.specName(), v.typeName())) {
+                        // 같은 규격이 중복되면 id가 작은 쪽을 사용
+                        break;
+                    }
+                    slot = (slot + 1) & mask;
+                }
+                if (slots[slot] == 0) {
+                    slots[slot] = i + 1;
+                }
+            }
+            return new ProductVariants(ordered, slots);
+        }
+
+        CatalogVariant find(String specName, String typeName) {
+            int slot = hash(specName, typeName) & mask;
+            int entry;
+            while ((entry = slots[slot]) != 0) {
+                CatalogVariant v = ordered.get(entry - 1);
+                if (matches(v, specName, typeName)) {
+                    return v;
+                }
+                slot = (slot + 1) & mask;
+            }
+            return null;
+        }
+
+        private static boolean matches(CatalogVariant v, String specName, String typeName) {
+            return Objects.equals(v.specName(), specName) && Objects.equals(v.typeName(), typeName);
+        }
+
+        private static int hash(String specName, String typeName) {
+            int h = 31 * Objects.hashCode(specName) + Objects.hashCode(typeName);
+            return h ^ (h >>> 16);
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.DongSeo.platform.service.importer;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * CSV/TSV 레코드 단위 스트리밍 리더
+ *
+ * 한 번에 한 레코드만 메모리에 올리므로 파일 크기와 무관하게 일정한 메모리로 읽는다.
+ * 큰따옴표로 감싼 값(구분자, 줄바꿈, "" 이스케이프 포함)과 CRLF, UTF-8 BOM을 처리한다.
+ */
+public class DelimitedRecordReader implements Closeable {
+
+    private static final int EOF = -1;
+
+    private final BufferedReader reader;
+    private final char delimiter;
+    private int line = 1;
+    private int recordLine;
+    private int pushedBack = EOF - 1;
+
+    public DelimitedRecordReader(Reader reader, char delimiter) {
+        this.reader = reader instanceof BufferedReader br ? br : new BufferedReader(reader, 64 * 1024);
+        this.delimiter = delimiter;
+    }
+
+    /**
+     * 다음 레코드 (더 없으면 null)
+     */
+    public List<String> next() throws IOException {
+        int c = read();
+        if (c == 0xFEFF && line == 1) {
+            c = read();
+        }
+        if (c == EOF) {
+            return null;
+        }
+        recordLine = line;
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean fieldStart = true;
+        while (true) {
+            if (quoted) {
+                if (c == EOF) {
+                    throw new IllegalArgumentException(recordLine + "행: 닫히지 않은 따옴표가 있습니다.");
+                }
+                if (c == '"') {
+                    int next = read();
+                    if (next == '"') {
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                        c = next;
+                        continue;
+                    }
+                } else {
+                    if (c == '\n') line++;
+                    field.append((char) c);
+                }
+            } else if (c == '"' && fieldStart) {
+                quoted = true;
+            } else if (c == delimiter) {
+                fields.add(field.toString());
+                field.setLength(0);
+                fieldStart = true;
+                c = read();
+                continue;
+            } else if (c == '\r' || c == '\n' || c == EOF) {
+                if (c == '\r') {
+                    int next = read();
+                    if (next != '\n') unread(next);
+                }
+                if (c != EOF) line++;
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            fieldStart = false;
+            c = read();
+        }
+    }
+
+    /**
+     * 마지막으로 읽은 레코드가 시작된 행 번호 (1부터)
+     */
+    public int recordLine() {
+        return recordLine;
+    }
+
+    private int read() throws IOException {
+        if (pushedBack != EOF - 1) {
+            int c = pushedBack;
+            pushedBack = EOF - 1;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private void unread(int c) {
+        pushedBack = c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
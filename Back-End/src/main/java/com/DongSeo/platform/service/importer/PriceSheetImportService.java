@@ -0,0 +1,468 @@
+package com.DongSeo.platform.service.importer;
+
+import com.DongSeo.platform.dto.PriceSheetImportResponse;
+import com.DongSeo.platform.service.catalog.CatalogChangedEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 공급사 가격표 일괄 등록 (price_matrix / product_variants)
+ *
+ * 업로드 파일을 한 행씩 읽어(스트리밍) 검증하고, chunk-size 행마다 JDBC batch로 upsert 후 커밋한다.
+ * - 같은 키(매트릭스: 제품+옵션명+가로+세로, 규격: 제품+규격명+타입명)의 기존 행은 가격을 수정하고, 없으면 추가한다.
+ *   기존 행은 chunk에 있는 키만 조회하므로 파일 크기와 관계없이 chunk마다 chunk 크기만큼만 읽는다.
+ * - 잘못된 행은 건너뛰고 행 번호와 사유를 결과에 담는다. chunk 저장이 실패하면 그 chunk의 행만 실패 처리한다.
+ * - 닫히지 않은 따옴표처럼 레코드를 더 나눌 수 없는 오류는 그 행을 오류로 남기고, 앞서 읽은 행까지 저장한 뒤 중단한다.
+ *   (이미 커밋된 chunk와 저장 건수는 결과에 그대로 담기고, stoppedAtLine으로 중단 위치를 알린다)
+ * - 등록이 끝나면 변경된 회사마다 CatalogChangedEvent를 발행해 견적 스냅샷을 다시 만든다.
+ * MySQL은 접속 URL에 rewriteBatchedStatements=true 가 있어야 batch insert가 한 번에 전송된다.
+ */
+@Slf4j
+@Service
+public class PriceSheetImportService {
+
+    public static final String TARGET_MATRIX = "price-matrix";
+    public static final String TARGET_VARIANTS = "variants";
+
+    /** 매트릭스 세로 값이 비어 있으면 엔티티 기본값과 같이 제한 없음(99999)으로 저장 */
+    private static final int UNBOUNDED_SIZE = 99999;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedJdbcTemplate;
+    private final TransactionTemplate chunkTx;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    public PriceSheetImportService(JdbcTemplate jdbcTemplate,
+                                   PlatformTransactionManager transactionManager,
+                                   ApplicationEventPublisher eventPublisher,
+                                   @Value("${app.import.chunk-size:1000}") int chunkSize,
+                                   @Value("${app.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    /**
+     * 가격표 등록
+     *
+     * @param target    price-matrix 또는 variants
+     * @param in        업로드 파일 (UTF-8)
+     * @param delimiter ',' 또는 '\t'
+     * @throws IllegalArgumentException 대상이 잘못되었거나 헤더에 필수 컬럼이 없는 경우
+     */
+    public PriceSheetImportResponse importSheet(String target, InputStream in, char delimiter) throws IOException {
+        SheetType type = switch (target) {
+            case TARGET_MATRIX -> SheetType.MATRIX;
+            case TARGET_VARIANTS -> SheetType.VARIANTS;
+            default -> throw new IllegalArgumentException("지원하지 않는 등록 대상입니다: " + target);
+        };
+
+        long startedAt = System.currentTimeMillis();
+        Map<Long, Long> productCompanies = loadProductCompanies();
+        ImportReport report = new ImportReport(maxReportedErrors);
+
+        try (DelimitedRecordReader reader = new DelimitedRecordReader(
+                new InputStreamReader(in, StandardCharsets.UTF_8), delimiter)) {
+            List<String> header = reader.next();
+            if (header == null) {
+                throw new IllegalArgumentException("빈 파일입니다.");
+            }
+            int[] columns = type.resolveColumns(header);
+
+            Map<List<Object>, ParsedRow> chunk = new LinkedHashMap<>();
+            while (true) {
+                List<String> record;
+                try {
+                    record = reader.next();
+                } catch (IllegalArgumentException e) {
+                    // 닫히지 않은 따옴표는 파일 끝까지 한 값으로 읽히므로 이후 행을 나눌 수 없음: 읽은 행까지만 저장하고 중단
+                    report.totalRows++;
+                    report.stoppedAtLine = reader.recordLine();
+                    report.error(reader.recordLine(), e.getMessage() + " 이 행부터 파일 끝까지는 등록하지 않았습니다.");
+                    break;
+                }
+                if (record == null) {
+                    break;
+                }
+                if (isBlank(record)) {
+                    continue;
+                }
+                report.totalRows++;
+                int line = reader.recordLine();
+                try {
+                    ParsedRow row = type.parse(line, record, columns);
+                    Long companyId = productCompanies.get(row.productId());
+                    if (companyId == null) {
+                        throw new IllegalArgumentException("존재하지 않는 제품입니다: " + row.productId());
+                    }
+                    // 같은 chunk 안에서 키가 겹치면 마지막 행을 사용
+                    ParsedRow previous = chunk.put(row.key(), row);
+                    if (previous != null) {
+                        report.error(previous.line(), line + "행과 키가 같아 무시되었습니다.");
+                    }
+                    report.companyIds.add(companyId);
+                } catch (IllegalArgumentException e) {
+                    report.error(line, e.getMessage());
+                }
+                if (chunk.size() >= chunkSize) {
+                    flush(type, chunk, report);
+                }
+            }
+            flush(type, chunk, report);
+        } finally {
+            report.companyIds.forEach(companyId ->
+                    eventPublisher.publishEvent(CatalogChangedEvent.ofCompany(companyId)));
+        }
+
+        long elapsed = System.currentTimeMillis() - startedAt;
+        log.info("가격표 등록 완료: target={}, rows={}, inserted={}, updated={}, errors={}, stoppedAtLine={}, elapsed={}ms",
+                target, report.totalRows, report.inserted, report.updated, report.errorCount, report.stoppedAtLine, elapsed);
+        return PriceSheetImportResponse.builder()
+                .target(target)
+                .totalRows(report.totalRows)
+                .insertedCount(report.inserted)
+                .updatedCount(report.updated)
+                .errorCount(report.errorCount)
+                .errorsTruncated(report.errorCount > report.errors.size())
+                .errors(report.errors)
+                .stoppedAtLine(report.stoppedAtLine)
+                .elapsedMs(elapsed)
+                .build();
+    }
+
+    /**
+     * 검증 대상 제품 → 회사 (행마다 조회하지 않도록 한 번만 읽음)
+     */
+    private Map<Long, Long> loadProductCompanies() {
+        Map<Long, Long> productCompanies = new HashMap<>();
+        jdbcTemplate.query("SELECT id, company_id FROM products",
+                rs -> {
+                    productCompanies.put(rs.getLong(1), rs.getLong(2));
+                });
+        return productCompanies;
+    }
+
+    /**
+     * chunk 한 개를 한 트랜잭션으로 저장
+     * 기존 행은 chunk에 포함된 키만 한 번에 조회해 update/insert로 나눈다.
+     */
+    private void flush(SheetType type, Map<List<Object>, ParsedRow> chunk, ImportReport report) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        List<ParsedRow> rows = new ArrayList<>(chunk.values());
+        chunk.clear();
+        try {
+            int[] counts = chunkTx.execute(status -> {
+                Map<List<Object>, Long> existing = type.findExisting(namedJdbcTemplate, rows);
+                List<Object[]> updates = new ArrayList<>();
+                List<Object[]> inserts = new ArrayList<>();
+                for (ParsedRow row : rows) {
+                    Long id = existing.get(row.key());
+                    if (id != null) {
+                        updates.add(type.updateArgs(row, id));
+                    } else {
+                        inserts.add(type.insertArgs(row));
+                    }
+                }
+                if (!updates.isEmpty()) {
+                    jdbcTemplate.batchUpdate(type.updateSql, updates);
+                }
+                if (!inserts.isEmpty()) {
+                    jdbcTemplate.batchUpdate(type.insertSql, inserts);
+                }
+                return new int[]{inserts.size(), updates.size()};
+            });
+            report.inserted += counts[0];
+            report.updated += counts[1];
+        } catch (DataAccessException e) {
+            log.warn("가격표 chunk 저장 실패: rows={}, firstLine={}", rows.size(), rows.get(0).line(), e);
+            String message = "저장 중 오류가 발생했습니다: " + e.getMostSpecificCause().getMessage();
+            rows.forEach(row -> report.error(row.line(), message));
+        }
+    }
+
+    private static boolean isBlank(List<String> record) {
+        for (String field : record) {
+            if (!field.isBlank()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 검증을 통과한 행
+     *
+     * @param key    upsert 키 (productId 포함)
+     * @param values 저장할 값 (SheetType의 컬럼 순서)
+     */
+    private record ParsedRow(int line, Long productId, List<Object> key, Object[] values) {
+    }
+
+    /**
+     * 등록 대상별 컬럼 / SQL 정의
+     */
+    private enum SheetType {
+        MATRIX(
+                new String[]{"productId", "optionName", "maxWidth", "maxHeight", "price"},
+                new boolean[]{true, true, true, false, true},
+                "UPDATE price_matrix SET price = ? WHERE id = ?",
+                "INSERT INTO price_matrix (product_id, option_name, max_width, max_height, price) VALUES (?, ?, ?, ?, ?)",
+                "SELECT id, product_id, option_name, max_width, max_height FROM price_matrix"
+                        + " WHERE (product_id, option_name, max_width) IN (:keys)",
+                3
+        ) {
+            @Override
+            ParsedRow parse(int line, List<String> record, int[] columns) {
+                Long productId = requireLong(record, columns, 0);
+                String optionName = requireText(record, columns, 1);
+                Integer maxWidth = requirePositiveInt(record, columns, 2);
+                Integer maxHeight = optionalPositiveInt(record, columns, 3);
+                int height = maxHeight != null ? maxHeight : UNBOUNDED_SIZE;
+                Integer price = requirePrice(record, columns, 4);
+                return new ParsedRow(line, productId, List.of(productId, optionName, maxWidth, height),
+                        new Object[]{productId, optionName, maxWidth, height, price});
+            }
+
+            @Override
+            Object[] updateArgs(ParsedRow row, Long id) {
+                return new Object[]{row.values()[4], id};
+            }
+
+            @Override
+            List<Object> existingKey(ResultSet rs) throws SQLException {
+                int maxHeight = rs.getObject(5) != null ? rs.getInt(5) : UNBOUNDED_SIZE;
+                return List.of(rs.getLong(2), rs.getString(3), rs.getInt(4), maxHeight);
+            }
+        },
+        VARIANTS(
+                new String[]{"productId", "specName", "typeName", "price", "note"},
+                new boolean[]{true, true, false, true, false},
+                "UPDATE product_variants SET price = ?, note = COALESCE(?, note) WHERE id = ?",
+                "INSERT INTO product_variants (product_id, spec_name, type_name, price, note) VALUES (?, ?, ?, ?, ?)",
+                "SELECT id, product_id, spec_name, type_name FROM product_variants"
+                        + " WHERE (product_id, spec_name) IN (:keys)",
+                2
+        ) {
+            @Override
+            ParsedRow parse(int line, List<String> record, int[] columns) {
+                Long productId = requireLong(record, columns, 0);
+                String specName = requireText(record, columns, 1);
+                // 관리자 제품 추가와 동일하게 타입이 없으면 빈 문자열로 저장
+                String typeName = Objects.requireNonNullElse(optionalText(record, columns, 2), "");
+                Integer price = requirePrice(record, columns, 3);
+                String note = optionalText(record, columns, 4);
+                return new ParsedRow(line, productId, List.of(productId, specName, typeName),
+                        new Object[]{productId, specName, typeName, price, note});
+            }
+
+            @Override
+            Object[] updateArgs(ParsedRow row, Long id) {
+                return new Object[]{row.values()[3], row.values()[4], id};
+            }
+
+            @Override
+            List<Object> existingKey(ResultSet rs) throws SQLException {
+                return List.of(rs.getLong(2), Objects.requireNonNullElse(rs.getString(3), ""),
+                        Objects.requireNonNullElse(rs.getString(4), ""));
+            }
+        };
+
+        private final String[] columnNames;
+        private final boolean[] requiredColumns;
+        final String updateSql;
+        final String insertSql;
+        private final String existingSql;
+        private final int lookupColumns;
+
+        SheetType(String[] columnNames, boolean[] requiredColumns, String updateSql, String insertSql,
+                  String existingSql, int lookupColumns) {
+            this.columnNames = columnNames;
+            this.requiredColumns = requiredColumns;
+            this.updateSql = updateSql;
+            this.insertSql = insertSql;
+            this.existingSql = existingSql;
+            this.lookupColumns = lookupColumns;
+        }
+
+        abstract ParsedRow parse(int line, List<String> record, int[] columns);
+
+        abstract Object[] updateArgs(ParsedRow row, Long id);
+
+        abstract List<Object> existingKey(ResultSet rs) throws SQLException;
+
+        Object[] insertArgs(ParsedRow row) {
+            return row.values();
+        }
+
+        /**
+         * chunk 행들의 기존 행 (키 → id)
+         * 키 앞쪽의 NOT NULL 컬럼 lookupColumns개로 (a, b, ...) IN ((?, ?, ...), ...) 조회하고,
+         * NULL이 올 수 있는 나머지 키 컬럼(매트릭스 세로, 규격 타입)은 existingKey로 맞춰 비교한다.
+         */
+        Map<List<Object>, Long> findExisting(NamedParameterJdbcTemplate jdbc, List<ParsedRow> rows) {
+            Map<List<Object>, Object[]> keys = new LinkedHashMap<>();
+            for (ParsedRow row : rows) {
+                List<Object> key = row.key().subList(0, lookupColumns);
+                keys.putIfAbsent(key, key.toArray());
+            }
+            Map<List<Object>, Long> existing = new HashMap<>();
+            jdbc.query(existingSql, new MapSqlParameterSource("keys", new ArrayList<>(keys.values())), rs -> {
+                // DB에 같은 키가 여러 개면 id가 가장 작은 행을 수정 (견적 조회와 동일한 행)
+                existing.merge(existingKey(rs), rs.getLong(1), Math::min);
+            });
+            return existing;
+        }
+
+        /**
+         * 헤더에서 컬럼 위치 찾기 (대소문자, '_' 구분 없이 productId / product_id 모두 허용)
+         *
+         * @return columnNames 순서의 위치 (없는 선택 컬럼은 -1)
+         */
+        int[] resolveColumns(List<String> header) {
+            int[] columns = new int[columnNames.length];
+            List<String> missing = new ArrayList<>();
+            for (int i = 0; i < columnNames.length; i++) {
+                columns[i] = -1;
+                for (int h = 0; h < header.size(); h++) {
+                    if (normalize(header.get(h)).equals(normalize(columnNames[i]))) {
+                        columns[i] = h;
+                        break;
+                    }
+                }
+                if (columns[i] < 0 && requiredColumns[i]) {
+                    missing.add(columnNames[i]);
+                }
+            }
+            if (!missing.isEmpty()) {
+                throw new IllegalArgumentException("필수 컬럼이 없습니다: " + missing
+                        + " (필요한 헤더: " + String.join(", ", columnNames) + ")");
+            }
+            return columns;
+        }
+
+        private static String normalize(String name) {
+            return name.trim().replace("_", "").toLowerCase(Locale.ROOT);
+        }
+
+        String columnName(int column) {
+            return columnNames[column];
+        }
+
+        String optionalText(List<String> record, int[] columns, int column) {
+            int index = columns[column];
+            if (index < 0 || index >= record.size()) {
+                return null;
+            }
+            String value = record.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        String requireText(List<String> record, int[] columns, int column) {
+            String value = optionalText(record, columns, column);
+            if (value == null) {
+                throw new IllegalArgumentException(columnName(column) + " 값이 비어 있습니다.");
+            }
+            return value;
+        }
+
+        Long requireLong(List<String> record, int[] columns, int column) {
+            String value = requireText(record, columns, column);
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(columnName(column) + " 값이 숫자가 아닙니다: " + value);
+            }
+        }
+
+        Integer optionalPositiveInt(List<String> record, int[] columns, int column) {
+            String value = optionalText(record, columns, column);
+            if (value == null) {
+                return null;
+            }
+            int parsed = parseInt(column, value);
+            if (parsed <= 0) {
+                throw new IllegalArgumentException(columnName(column) + " 값은 0보다 커야 합니다: " + value);
+            }
+            return parsed;
+        }
+
+        Integer requirePositiveInt(List<String> record, int[] columns, int column) {
+            requireText(record, columns, column);
+            return optionalPositiveInt(record, columns, column);
+        }
+
+        Integer requirePrice(List<String> record, int[] columns, int column) {
+            String value = requireText(record, columns, column);
+            int parsed = parseInt(column, value);
+            if (parsed < 0) {
+                throw new IllegalArgumentException(columnName(column) + " 값은 음수일 수 없습니다: " + value);
+            }
+            return parsed;
+        }
+
+        private int parseInt(int column, String value) {
+            try {
+                // 가격표에 흔한 천 단위 구분 쉼표 허용 (TSV, 따옴표로 감싼 CSV 값)
+                return Integer.parseInt(value.replace(",", ""));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException(columnName(column) + " 값이 숫자가 아닙니다: " + value);
+            }
+        }
+    }
+
+    /**
+     * 등록 진행 상황 (오류 목록은 maxReportedErrors개까지만 보관)
+     */
+    private static final class ImportReport {
+        private final int maxReportedErrors;
+        private final List<PriceSheetImportResponse.RowError> errors = new ArrayList<>();
+        private final Set<Long> companyIds = new HashSet<>();
+        private int totalRows;
+        private int inserted;
+        private int updated;
+        private int errorCount;
+        private Integer stoppedAtLine;
+
+        ImportReport(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        void error(int line, String message) {
+            errorCount++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new PriceSheetImportResponse.RowError(line, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.DongSeo.platform.service.search;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 검색용 한글 문자열 처리
+ *
+ * - normalize: NFC 정규화, 소문자, 공백 제거 ("목재 문틀" 과 "목재문틀" 을 같게 취급)
+ * - choseong: 한글 음절을 초성(ㄱ~ㅎ)으로 바꾼 문자열 ("목재문틀" → "ㅁㅈㅁㅌ"), 한글이 아닌 문자는 그대로
+ * - grams: 인덱스 키 (1글자는 그 글자, 2글자 이상은 bigram)
+ */
+final class HangulText {
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    /** 중성 21 × 종성 28 */
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+    private static final char[] CHOSEONG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private HangulText() {
+    }
+
+    static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+        String nfc = Normalizer.normalize(text, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        StringBuilder sb = new StringBuilder(nfc.length());
+        for (int i = 0; i < nfc.length(); i++) {
+            char c = nfc.charAt(i);
+            if (!Character.isWhitespace(c)) {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param normalized normalize()를 거친 문자열
+     */
+    static String choseong(String normalized) {
+        StringBuilder sb = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= SYLLABLE_BASE && c <= SYLLABLE_LAST) {
+                sb.append(CHOSEONG[(c - SYLLABLE_BASE) / SYLLABLES_PER_INITIAL]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * 초성(자음 자모)이 섞인 검색어인지 ("ㅁㅈㅁㅌ", "목ㅈ" 등)
+     */
+    static boolean hasChoseong(String normalized) {
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * 인덱스 키 추가 (1글자 unigram + bigram)
+     * 1글자 검색어도 찾을 수 있도록 unigram도 함께 넣는다.
+     */
+    static void addGrams(String normalized, Set<String> out) {
+        for (int i = 0; i < normalized.length(); i++) {
+            out.add(normalized.substring(i, i + 1));
+            if (i + 1 < normalized.length()) {
+                out.add(normalized.substring(i, i + 2));
+            }
+        }
+    }
+
+    /**
+     * 검색어의 조회 키 (1글자는 unigram, 그 외에는 bigram)
+     */
+    static void addQueryGrams(String normalized, Set<String> out) {
+        if (normalized.length() == 1) {
+            out.add(normalized);
+            return;
+        }
+        for (int i = 0; i + 1 < normalized.length(); i++) {
+            out.add(normalized.substring(i, i + 2));
+        }
+    }
+}
@@ -0,0 +1,325 @@
+package com.DongSeo.platform.service.search;
+
+import com.DongSeo.platform.service.catalog.CatalogCategory;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogRefreshedEvent;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.catalog.PricingCatalog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 제품 검색 인덱스 (메모리 역색인)
+ *
+ * 제품명, 설명, 규격(size), 카테고리명을 n-gram으로 색인하여 LIKE '%keyword%' 전체 스캔 없이 검색한다.
+ * - 일반 검색어: bigram(1글자면 unigram) 역색인으로 후보를 좁힌 뒤, 실제 부분 문자열 포함 여부로 확인
+ * - 초성 검색어 ("ㅁㅈㅁㅌ" → 목재문틀): 초성 문자열의 n-gram 역색인을 따로 둔다
+ * - 공백으로 나눈 검색어는 모두 포함해야 하며(AND), 일치한 필드의 가중치 합으로 정렬한다
+ * 카탈로그 스냅샷이 바뀌면 리비전이 바뀐(추가/수정/삭제된) 제품만 다시 색인한다.
+ * 색인 변경은 직렬화되고, 검색은 락 없이 읽는다.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    /** 필드 순서: 제품명, 카테고리명, 규격, 설명 */
+    private static final int NAME = 0;
+    private static final double[] FIELD_WEIGHTS = {4.0, 2.0, 1.5, 1.0};
+    private static final double EXACT_NAME_BONUS = 10.0;
+    private static final double NAME_PREFIX_BONUS = 3.0;
+
+    private final PricingCatalog pricingCatalog;
+
+    private final Map<Long, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+    private final Map<String, Set<Long>> choseongPostings = new ConcurrentHashMap<>();
+    private volatile long indexedVersion = -1L;
+
+    public ProductSearchIndex(PricingCatalog pricingCatalog) {
+        this.pricingCatalog = pricingCatalog;
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        sync(event.snapshot());
+    }
+
+    /**
+     * 키워드 검색
+     *
+     * @param keyword    검색어 (공백으로 나눈 단어를 모두 포함, 초성 가능)
+     * @param companyId  회사 필터 (선택)
+     * @param categoryId 카테고리 필터: 해당 카테고리 또는 그 하위 카테고리 (선택)
+     * @return 관련도 순 제품 ID (같으면 이름이 짧은 순, id 순)
+     */
+    public List<Long> search(String keyword, Long companyId, Long categoryId) {
+        Map<Long, Double> scores = scores(keyword, companyId, categoryId);
+        List<Long> ids = new ArrayList<>(scores.keySet());
+        ids.sort(Comparator.<Long>comparingDouble(id -> -scores.get(id))
+                .thenComparingInt(id -> nameLength(id))
+                .thenComparing(Comparator.naturalOrder()));
+        return ids;
+    }
+
+    /**
+     * 키워드 검색 (점수 포함, 관리자 검색 페이지네이션용)
+     * (점수, id)로 이어서 조회할 수 있도록 이름 길이는 정렬에 쓰지 않는다.
+     *
+     * @return 관련도 순 결과 (같으면 id 순)
+     */
+    public List<Hit> searchScored(String keyword, Long companyId, Long categoryId) {
+        List<Hit> hits = new ArrayList<>();
+        scores(keyword, companyId, categoryId).forEach((id, score) -> hits.add(new Hit(id, score)));
+        hits.sort(Hit.ORDER);
+        return hits;
+    }
+
+    private Map<Long, Double> scores(String keyword, Long companyId, Long categoryId) {
+        CatalogSnapshot catalog = pricingCatalog.current();
+        if (catalog.version() > indexedVersion) {
+            sync(catalog);
+        }
+
+        List<String> terms = new ArrayList<>();
+        if (keyword != null) {
+            for (String word : keyword.trim().split("\\s+")) {
+                String term = HangulText.normalize(word);
+                if (!term.isEmpty()) {
+                    terms.add(term);
+                }
+            }
+        }
+
+        Map<Long, Double> scores = new HashMap<>();
+        if (terms.isEmpty()) {
+            documents.values().forEach(doc -> {
+                if (doc.matchesFilter(companyId, categoryId)) {
+                    scores.put(doc.id, 0.0);
+                }
+            });
+        } else {
+            for (int t = 0; t < terms.size(); t++) {
+                Map<Long, Double> termScores = searchTerm(terms.get(t), companyId, categoryId,
+                        t == 0 ? null : scores.keySet());
+                if (t == 0) {
+                    scores.putAll(termScores);
+                } else {
+                    scores.keySet().retainAll(termScores.keySet());
+                    termScores.forEach((id, score) -> scores.computeIfPresent(id, (k, s) -> s + score));
+                }
+                if (scores.isEmpty()) {
+                    break;
+                }
+            }
+        }
+        return scores;
+    }
+
+    private int nameLength(Long id) {
+        Document doc = documents.get(id);
+        return doc != null ? doc.fields[NAME].length() : Integer.MAX_VALUE;
+    }
+
+    /**
+     * 검색어 하나에 일치하는 제품과 점수
+     *
+     * @param within 이전 검색어까지 일치한 제품 (null이면 제한 없음)
+     */
+    private Map<Long, Double> searchTerm(String term, Long companyId, Long categoryId, Set<Long> within) {
+        boolean choseong = HangulText.hasChoseong(term);
+        String query = choseong ? HangulText.choseong(term) : term;
+        Map<String, Set<Long>> index = choseong ? choseongPostings : postings;
+
+        Set<String> grams = new HashSet<>();
+        HangulText.addQueryGrams(query, grams);
+        Set<Long> candidates = null;
+        for (String gram : grams) {
+            Set<Long> ids = index.get(gram);
+            if (ids == null) {
+                return Map.of();
+            }
+            if (candidates == null || ids.size() < candidates.size()) {
+                candidates = ids;
+            }
+        }
+
+        Map<Long, Double> result = new HashMap<>();
+        if (candidates == null) {
+            return result;
+        }
+        for (Long id : candidates) {
+            if (within != null && !within.contains(id)) {
+                continue;
+            }
+            Document doc = documents.get(id);
+            if (doc == null || !doc.matchesFilter(companyId, categoryId)) {
+                continue;
+            }
+            double score = doc.score(query, choseong);
+            if (score > 0) {
+                result.put(id, score);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 스냅샷과 인덱스 동기화 (리비전이 바뀐 제품만 다시 색인)
+     */
+    private synchronized void sync(CatalogSnapshot catalog) {
+        if (catalog.version() <= indexedVersion) {
+            return;
+        }
+        int changed = 0;
+        Set<Long> alive = new HashSet<>();
+        for (CatalogProduct product : catalog.products()) {
+            alive.add(product.id());
+            long revision = catalog.revision(product.id());
+            Document existing = documents.get(product.id());
+            if (existing != null && existing.revision == revision) {
+                continue;
+            }
+            if (existing != null) {
+                unindex(existing);
+            }
+            index(Document.of(catalog, product, revision));
+            changed++;
+        }
+        for (Document doc : List.copyOf(documents.values())) {
+            if (!alive.contains(doc.id)) {
+                unindex(doc);
+                changed++;
+            }
+        }
+        indexedVersion = catalog.version();
+        log.debug("제품 검색 인덱스 갱신: catalogVersion={}, changed={}, size={}", catalog.version(), changed, documents.size());
+    }
+
+    private void index(Document doc) {
+        documents.put(doc.id, doc);
+        doc.grams().forEach(g -> postings.computeIfAbsent(g, k -> ConcurrentHashMap.newKeySet()).add(doc.id));
+        doc.choseongGrams().forEach(g -> choseongPostings.computeIfAbsent(g, k -> ConcurrentHashMap.newKeySet()).add(doc.id));
+    }
+
+    private void unindex(Document doc) {
+        doc.grams().forEach(g -> remove(postings, g, doc.id));
+        doc.choseongGrams().forEach(g -> remove(choseongPostings, g, doc.id));
+        documents.remove(doc.id);
+    }
+
+    private static void remove(Map<String, Set<Long>> index, String gram, Long id) {
+        index.computeIfPresent(gram, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        });
+    }
+
+    /**
+     * 색인된 제품 한 건 (정규화한 필드와 초성 필드)
+     */
+    private static final class Document {
+        private final Long id;
+        private final long revision;
+        private final Long companyId;
+        private final Long categoryId;
+        private final Long parentCategoryId;
+        private final String[] fields;
+        private final String[] choseongFields;
+
+        private Document(Long id, long revision, Long companyId, Long categoryId, Long parentCategoryId, String[] fields) {
+            this.id = id;
+            this.revision = revision;
+            this.companyId = companyId;
+            this.categoryId = categoryId;
+            this.parentCategoryId = parentCategoryId;
+            this.fields = fields;
+            this.choseongFields = new String[fields.length];
+            for (int i = 0; i < fields.length; i++) {
+                choseongFields[i] = HangulText.choseong(fields[i]);
+            }
+        }
+
+        static Document of(CatalogSnapshot catalog, CatalogProduct product, long revision) {
+            CatalogCategory category = catalog.category(product.categoryId());
+            String[] fields = {
+                    HangulText.normalize(product.name()),
+                    HangulText.normalize(category != null ? category.name() : null),
+                    HangulText.normalize(product.size()),
+                    HangulText.normalize(product.description())
+            };
+            return new Document(product.id(), revision, product.companyId(), product.categoryId(),
+                    category != null ? category.parentId() : null, fields);
+        }
+
+        boolean matchesFilter(Long companyId, Long categoryId) {
+            if (companyId != null && !companyId.equals(this.companyId)) {
+                return false;
+            }
+            return categoryId == null || categoryId.equals(this.categoryId) || categoryId.equals(parentCategoryId);
+        }
+
+        /**
+         * 일치한 필드 가중치 합 (+ 제품명 완전 일치/접두 일치 가산점), 일치하지 않으면 0
+         */
+        double score(String query, boolean choseong) {
+            String[] target = choseong ? choseongFields : fields;
+            double score = 0;
+            for (int i = 0; i < target.length; i++) {
+                if (target[i].contains(query)) {
+                    score += FIELD_WEIGHTS[i];
+                }
+            }
+            if (score > 0) {
+                if (target[NAME].equals(query)) {
+                    score += EXACT_NAME_BONUS;
+                } else if (target[NAME].startsWith(query)) {
+                    score += NAME_PREFIX_BONUS;
+                }
+            }
+            return score;
+        }
+
+        Set<String> grams() {
+            Set<String> grams = new HashSet<>();
+            for (String field : fields) {
+                HangulText.addGrams(field, grams);
+            }
+            return grams;
+        }
+
+        Set<String> choseongGrams() {
+            Set<String> grams = new HashSet<>();
+            for (String field : choseongFields) {
+                HangulText.addGrams(field, grams);
+            }
+            return grams;
+        }
+    }
+
+    /**
+     * 검색 결과 한 건
+     */
+    public record Hit(long id, double score) {
+
+        /** 점수 높은 순, 같으면 id 순 */
+        public static final Comparator<Hit> ORDER = Comparator.comparingDouble((Hit h) -> -h.score())
+                .thenComparingLong(Hit::id);
+
+        /**
+         * (score, id) 위치 다음에 오는 결과인지 (keyset 페이지네이션)
+         */
+        public boolean isAfter(double score, long id) {
+            return this.score < score || (this.score == score && this.id > id);
+        }
+    }
+}
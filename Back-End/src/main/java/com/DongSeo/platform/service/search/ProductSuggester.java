@@ -0,0 +1,155 @@
+package com.DongSeo.platform.service.search;
+
+import com.DongSeo.platform.service.catalog.CatalogCategory;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogRefreshedEvent;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import com.DongSeo.platform.service.catalog.CatalogVariant;
+import com.DongSeo.platform.service.catalog.PricingCatalog;
+import com.DongSeo.platform.service.search.SuggestionTrie.Suggestion;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 제품 자동완성 (접두어 검색)
+ *
+ * 제품명, 카테고리명, 규격명(variant specName)으로 회사별 SuggestionTrie와 전체 트라이를 만들어 두고
+ * DB 없이 조회한다. 표시 순서는 카테고리 → 제품 → 규격, 같은 종류면 짧은 이름 순.
+ * 규격명은 여러 제품에 같은 이름이 많으므로 회사 안에서 한 번만 넣는다.
+ *
+ * 카탈로그가 바뀌면 전용 스레드에서 새 트라이를 만들어 통째로 교체한다. (조회는 이전 트라이로 계속 응답)
+ * 만드는 도중 여러 번 바뀌면 마지막 스냅샷으로 한 번만 다시 만든다.
+ */
+@Slf4j
+@Component
+public class ProductSuggester {
+
+    public static final String TYPE_CATEGORY = "CATEGORY";
+    public static final String TYPE_PRODUCT = "PRODUCT";
+    public static final String TYPE_SPEC = "SPEC";
+
+    private static final int CATEGORY_WEIGHT = 3;
+    private static final int PRODUCT_WEIGHT = 2;
+    private static final int SPEC_WEIGHT = 1;
+
+    private final PricingCatalog pricingCatalog;
+    private final ExecutorService rebuildExecutor = Executors.newSingleThreadExecutor(r -> {
+        Thread thread = new Thread(r, "suggest-rebuild");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /** 다시 만들어야 할 최신 스냅샷 (없으면 null) */
+    private final AtomicReference<CatalogSnapshot> pending = new AtomicReference<>();
+    private volatile Tries tries = new Tries(-1L, SuggestionTrie.empty(), Map.of());
+
+    public ProductSuggester(PricingCatalog pricingCatalog) {
+        this.pricingCatalog = pricingCatalog;
+    }
+
+    @EventListener
+    public void onCatalogRefreshed(CatalogRefreshedEvent event) {
+        // 이미 대기 중인 작업이 있으면 스냅샷만 바꿔 두면 그 작업이 최신 것으로 만든다
+        if (pending.getAndSet(event.snapshot()) == null) {
+            rebuildExecutor.execute(this::rebuildPending);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 접두어 자동완성
+     *
+     * @param prefix    입력 중인 문자열 (초성, 입력 중인 마지막 음절 가능)
+     * @param companyId 회사 필터 (선택)
+     * @param limit     최대 개수 (1 ~ SuggestionTrie.MAX_LIMIT)
+     */
+    public List<Suggestion> suggest(String prefix, Long companyId, int limit) {
+        Tries current = tries;
+        if (current.version < 0) {
+            // 시작 직후 첫 트라이가 아직 없으면 현재 스냅샷으로 바로 만든다
+            current = rebuild(pricingCatalog.current());
+        }
+        SuggestionTrie trie = companyId == null
+                ? current.all
+                : current.byCompany.getOrDefault(companyId, SuggestionTrie.empty());
+        return trie.complete(prefix, Math.min(limit, SuggestionTrie.MAX_LIMIT));
+    }
+
+    private void rebuildPending() {
+        CatalogSnapshot snapshot = pending.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            rebuild(snapshot);
+        } catch (RuntimeException e) {
+            log.error("자동완성 트라이 생성 실패: catalogVersion={}", snapshot.version(), e);
+        }
+    }
+
+    private synchronized Tries rebuild(CatalogSnapshot catalog) {
+        if (catalog.version() <= tries.version) {
+            return tries;
+        }
+        long start = System.nanoTime();
+
+        Map<Long, Map<String, Suggestion>> byCompany = new HashMap<>();
+        for (CatalogCategory category : catalog.categories()) {
+            add(byCompany, category.companyId(), new Suggestion(category.name(), TYPE_CATEGORY, category.id(), CATEGORY_WEIGHT));
+        }
+        for (CatalogProduct product : catalog.products()) {
+            add(byCompany, product.companyId(), new Suggestion(product.name(), TYPE_PRODUCT, product.id(), PRODUCT_WEIGHT));
+            for (CatalogVariant variant : catalog.variants(product.id())) {
+                add(byCompany, product.companyId(), new Suggestion(variant.specName(), TYPE_SPEC, null, SPEC_WEIGHT));
+            }
+        }
+
+        Map<String, Suggestion> all = new LinkedHashMap<>();
+        Map<Long, SuggestionTrie> companyTries = new HashMap<>();
+        byCompany.forEach((companyId, suggestions) -> {
+            suggestions.forEach((key, suggestion) -> all.merge(key, suggestion, ProductSuggester::preferLowerId));
+            if (companyId != null) {
+                companyTries.put(companyId, SuggestionTrie.of(List.copyOf(suggestions.values())));
+            }
+        });
+
+        Tries built = new Tries(catalog.version(), SuggestionTrie.of(List.copyOf(all.values())), Map.copyOf(companyTries));
+        tries = built;
+        log.info("자동완성 트라이 교체: catalogVersion={}, entries={}, companies={}, elapsedMs={}",
+                catalog.version(), built.all.size(), companyTries.size(), (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    /**
+     * (종류, 이름)이 같은 항목은 하나만 (같은 이름의 제품/카테고리는 id가 작은 것)
+     */
+    private static void add(Map<Long, Map<String, Suggestion>> byCompany, Long companyId, Suggestion suggestion) {
+        if (suggestion.text() == null || suggestion.text().isBlank()) {
+            return;
+        }
+        String key = suggestion.type() + '|' + HangulText.normalize(suggestion.text());
+        byCompany.computeIfAbsent(companyId, k -> new LinkedHashMap<>())
+                .merge(key, suggestion, ProductSuggester::preferLowerId);
+    }
+
+    private static Suggestion preferLowerId(Suggestion a, Suggestion b) {
+        return a.id() != null && b.id() != null && b.id() < a.id() ? b : a;
+    }
+
+    private record Tries(long version, SuggestionTrie all, Map<Long, SuggestionTrie> byCompany) {
+    }
+}
@@ -0,0 +1,205 @@
+package com.DongSeo.platform.service.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeMap;
+
+/**
+ * 자동완성용 접두어 트라이 (불변)
+ *
+ * 각 항목을 정규화한 문자열과 초성 문자열 두 가지 키로 넣는다.
+ * 노드마다 그 아래 항목 중 순위가 높은 MAX_LIMIT개를 미리 저장해 두므로, 조회는 접두어 길이만큼 내려간 뒤
+ * 저장된 목록을 그대로 돌려준다. (항목 수와 무관)
+ * 항목 번호가 곧 순위(가중치 높은 순 → 짧은 순 → 가나다 순)라서, 작은 번호가 먼저다.
+ *
+ * 입력 중인 마지막 음절도 처리한다: "목재무"는 마지막 글자 '무'에 받침이 없으므로 '문', '묵' 등으로 이어지는 항목도 찾는다.
+ */
+public final class SuggestionTrie {
+
+    public static final int MAX_LIMIT = 20;
+
+    private static final char SYLLABLE_BASE = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int FINALS_PER_SYLLABLE = 28;
+
+    private static final Node EMPTY_NODE = new Node(new char[0], new Node[0], new int[0]);
+
+    private final List<Suggestion> entries;
+    private final Node root;
+
+    private SuggestionTrie(List<Suggestion> entries, Node root) {
+        this.entries = entries;
+        this.root = root;
+    }
+
+    public static SuggestionTrie empty() {
+        return new SuggestionTrie(List.of(), EMPTY_NODE);
+    }
+
+    /**
+     * @param suggestions 자동완성 항목 (같은 종류/문구는 호출하는 쪽에서 중복 제거)
+     */
+    public static SuggestionTrie of(List<Suggestion> suggestions) {
+        List<Suggestion> ranked = new ArrayList<>(suggestions);
+        ranked.sort(Comparator.comparingInt(Suggestion::weight).reversed()
+                .thenComparingInt(s -> s.text().length())
+                .thenComparing(Suggestion::text));
+
+        BuildNode root = new BuildNode();
+        for (int rank = 0; rank < ranked.size(); rank++) {
+            String normalized = HangulText.normalize(ranked.get(rank).text());
+            if (normalized.isEmpty()) {
+                continue;
+            }
+            root.insert(normalized, rank);
+            String choseong = HangulText.choseong(normalized);
+            if (!choseong.equals(normalized)) {
+                root.insert(choseong, rank);
+            }
+        }
+        return new SuggestionTrie(List.copyOf(ranked), root.freeze());
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 접두어로 시작하는 항목 (순위 순, 최대 limit개)
+     * 초성이 섞인 접두어는 초성 키로 찾는다. ("ㅁㅈ", "목ㅈ" → 목재문틀)
+     */
+    public List<Suggestion> complete(String prefix, int limit) {
+        String key = HangulText.normalize(prefix);
+        if (key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (HangulText.hasChoseong(key)) {
+            key = HangulText.choseong(key);
+        }
+
+        Node node = root;
+        for (int i = 0; i < key.length() - 1 && node != null; i++) {
+            node = node.child(key.charAt(i));
+        }
+        if (node == null) {
+            return List.of();
+        }
+
+        char last = key.charAt(key.length() - 1);
+        int[] ranks;
+        if (isOpenSyllable(last)) {
+            // 받침 없는 음절: 같은 초성+중성의 모든 음절 (받침이 입력 중일 수 있음)
+            ranks = node.mergedTop(last, (char) (last + FINALS_PER_SYLLABLE - 1), limit);
+        } else {
+            Node child = node.child(last);
+            ranks = child != null ? child.top : new int[0];
+        }
+
+        int count = Math.min(limit, ranks.length);
+        List<Suggestion> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            result.add(entries.get(ranks[i]));
+        }
+        return result;
+    }
+
+    private static boolean isOpenSyllable(char c) {
+        return c >= SYLLABLE_BASE && c <= SYLLABLE_LAST && (c - SYLLABLE_BASE) % FINALS_PER_SYLLABLE == 0;
+    }
+
+    /**
+     * 자동완성 항목
+     *
+     * @param type   PRODUCT, CATEGORY, SPEC
+     * @param id     제품/카테고리 ID (SPEC은 null)
+     * @param weight 클수록 먼저 표시
+     */
+    public record Suggestion(String text, String type, Long id, int weight) {
+    }
+
+    /**
+     * 조회용 노드: 자식 글자는 정렬된 배열 (이진 탐색)
+     */
+    private static final class Node {
+        private final char[] keys;
+        private final Node[] children;
+        private final int[] top;
+
+        private Node(char[] keys, Node[] children, int[] top) {
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+
+        /**
+         * 글자 범위 [from, to]에 해당하는 자식들의 상위 목록을 순위 순으로 합침
+         */
+        int[] mergedTop(char from, char to, int limit) {
+            int start = Arrays.binarySearch(keys, from);
+            start = start >= 0 ? start : -start - 1;
+            int[] merged = new int[0];
+            for (int i = start; i < keys.length && keys[i] <= to; i++) {
+                merged = mergeSorted(merged, children[i].top, limit);
+            }
+            return merged;
+        }
+
+        private static int[] mergeSorted(int[] a, int[] b, int limit) {
+            int[] out = new int[Math.min(limit, a.length + b.length)];
+            int i = 0, j = 0, n = 0;
+            while (n < out.length) {
+                int next;
+                if (j >= b.length || (i < a.length && a[i] <= b[j])) {
+                    next = a[i++];
+                } else {
+                    next = b[j++];
+                }
+                if (n == 0 || out[n - 1] != next) {
+                    out[n++] = next;
+                }
+                if (i >= a.length && j >= b.length) {
+                    break;
+                }
+            }
+            return n == out.length ? out : Arrays.copyOf(out, n);
+        }
+    }
+
+    /**
+     * 생성 중에만 쓰는 노드
+     */
+    private static final class BuildNode {
+        private final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        private final List<Integer> top = new ArrayList<>();
+
+        void insert(String key, int rank) {
+            BuildNode node = this;
+            for (int i = 0; i < key.length(); i++) {
+                node = node.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+                // 순위 순으로 들어오므로 앞의 MAX_LIMIT개만 남기면 된다 (같은 항목의 두 키가 겹치는 경우는 제외)
+                if (node.top.size() < MAX_LIMIT && (node.top.isEmpty() || node.top.get(node.top.size() - 1) != rank)) {
+                    node.top.add(rank);
+                }
+            }
+        }
+
+        Node freeze() {
+            char[] keys = new char[children.size()];
+            Node[] frozen = new Node[children.size()];
+            int i = 0;
+            for (var e : children.entrySet()) {
+                keys[i] = e.getKey();
+                frozen[i] = e.getValue().freeze();
+                i++;
+            }
+            return new Node(keys, frozen, top.stream().mapToInt(Integer::intValue).toArray());
+        }
+    }
+}
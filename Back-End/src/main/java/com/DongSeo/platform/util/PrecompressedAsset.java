@@ -0,0 +1,202 @@
+package com.DongSeo.platform.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 기동 시 한 번 읽어 압축해 두는 정적 파일 (폰트 JS 등 큰 파일용)
+ *
+ * 원본, gzip, brotli 변형을 애플리케이션 전용 디렉터리(app.static-assets.dir)에 파일로 만들어 두고,
+ * 요청마다 클래스패스를 다시 읽지 않고 파일에서 바로 전송한다.
+ * (파일로 두는 이유: 톰캣 sendfile / FileChannel.transferTo로 힙 복사 없이 보내기 위함)
+ * 시스템 임시 디렉터리는 tmp 정리 작업(systemd-tmpfiles, tmpwatch)이 오래된 파일을 지우므로 쓰지 않는다.
+ * - 지문: 원본 내용의 SHA-256 앞 16자리. 내용이 바뀌면 지문 URL도 바뀌므로 지문 URL은 영구 캐시해도 된다.
+ * - 파일 이름에 지문이 들어가므로 다시 만들어도 같은 이름이며, 이전 지문의 파일은 준비할 때 지운다.
+ * - brotli: JDK에 인코더가 없으므로 빌드 시 만든 "<경로>.br" 파일(build.gradle의 brotliStaticAssets)이 클래스패스에 있을 때만 제공한다.
+ */
+@Slf4j
+public final class PrecompressedAsset {
+
+    public static final String IDENTITY = "identity";
+    public static final String GZIP = "gzip";
+    public static final String BROTLI = "br";
+
+    private final String contentType;
+    private final String fingerprint;
+    /** 인코딩 → 변형 (br, gzip, identity 순서 = 선호 순서) */
+    private final Map<String, Variant> variants;
+
+    private PrecompressedAsset(String contentType, String fingerprint, Map<String, Variant> variants) {
+        this.contentType = contentType;
+        this.fingerprint = fingerprint;
+        this.variants = variants;
+    }
+
+    /**
+     * 클래스패스 파일을 읽어 directory에 변형 생성 (없으면 null)
+     */
+    public static PrecompressedAsset load(String resourcePath, String contentType, Path directory) throws IOException {
+        ClassPathResource resource = new ClassPathResource(resourcePath);
+        if (!resource.exists()) {
+            return null;
+        }
+        byte[] original;
+        try (InputStream in = resource.getInputStream()) {
+            original = in.readAllBytes();
+        }
+        String fingerprint = sha256(original).substring(0, 16);
+        String name = new File(resourcePath).getName();
+        Files.createDirectories(directory);
+        deleteStale(directory, name, fingerprint);
+        String prefix = name + "-" + fingerprint + ".";
+
+        Map<String, Variant> variants = new LinkedHashMap<>();
+        ClassPathResource brotli = new ClassPathResource(resourcePath + ".br");
+        if (brotli.exists()) {
+            try (InputStream in = brotli.getInputStream()) {
+                variants.put(BROTLI, Variant.write(directory.resolve(prefix + "br"), in.readAllBytes(), fingerprint, BROTLI));
+            }
+        }
+        byte[] gzipped = gzip(original);
+        if (gzipped.length < original.length) {
+            variants.put(GZIP, Variant.write(directory.resolve(prefix + "gz"), gzipped, fingerprint, GZIP));
+        }
+        variants.put(IDENTITY, Variant.write(directory.resolve(prefix + "orig"), original, fingerprint, IDENTITY));
+
+        log.info("정적 파일 준비: {} fingerprint={}, dir={}, sizes={}", resourcePath, fingerprint, directory,
+                variants.values().stream().map(v -> v.encoding() + "=" + v.length()).toList());
+        return new PrecompressedAsset(contentType, fingerprint, Map.copyOf(variants));
+    }
+
+    public String contentType() {
+        return contentType;
+    }
+
+    public String fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * Accept-Encoding에 맞는 변형 (brotli → gzip → 원본 순으로 선호, q=0은 제외)
+     */
+    public Variant negotiate(String acceptEncoding) {
+        for (String encoding : new String[]{BROTLI, GZIP}) {
+            Variant variant = variants.get(encoding);
+            if (variant != null && accepts(acceptEncoding, encoding)) {
+                return variant;
+            }
+        }
+        return variants.get(IDENTITY);
+    }
+
+    public boolean hasCompressedVariants() {
+        return variants.size() > 1;
+    }
+
+    /**
+     * 변형 파일이 모두 남아 있는지 (누군가 디렉터리를 정리했으면 load로 다시 만든다)
+     */
+    public boolean filesPresent() {
+        return variants.values().stream().allMatch(v -> Files.isReadable(v.path()));
+    }
+
+    private static boolean accepts(String acceptEncoding, String encoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+            String[] tokens = part.trim().split(";");
+            if (!tokens[0].trim().equals(encoding)) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                String param = tokens[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * 이전 지문(이전 배포)의 파일 삭제
+     */
+    private static void deleteStale(Path directory, String name, String fingerprint) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, name + "-*")) {
+            for (Path file : files) {
+                if (!file.getFileName().toString().startsWith(name + "-" + fingerprint + ".")) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 2);
+        try (GZIPOutputStream gz = new GZIPOutputStream(out) {
+            {
+                def.setLevel(Deflater.BEST_COMPRESSION);
+            }
+        }) {
+            gz.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 인코딩별 파일
+     *
+     * @param etag 강한 ETag (인코딩마다 다름)
+     */
+    public record Variant(String encoding, Path path, long length, String etag) {
+
+        /**
+         * 같은 디렉터리의 임시 파일에 쓴 뒤 이름을 바꿔, 전송 중인 파일이 덮어쓰는 도중의 내용을 보내지 않게 한다
+         */
+        private static Variant write(Path path, byte[] data, String fingerprint, String encoding) throws IOException {
+            Path temp = Files.createTempFile(path.getParent(), path.getFileName().toString(), ".tmp");
+            try {
+                Files.write(temp, data);
+                Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            return new Variant(encoding, path, data.length, "\"" + fingerprint + "-" + encoding + "\"");
+        }
+
+        public boolean isIdentity() {
+            return IDENTITY.equals(encoding);
+        }
+    }
+}
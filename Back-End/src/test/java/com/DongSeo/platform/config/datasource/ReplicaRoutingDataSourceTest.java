@@ -0,0 +1,197 @@
+package com.DongSeo.platform.config.datasource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * replica 라우팅 테스트
+ *
+ * 내장 H2 인스턴스 세 개(primary, replica-1, replica-2)에 각자 이름을 넣어 두고, 어느 인스턴스에서 읽었는지 확인한다.
+ * 복제 지연은 lag-query를 replica_lag 테이블 조회로 바꿔 흉내 낸다.
+ * 실제 MySQL 두 대로 확인하는 방법은 REPLICA_ROUTING.md 참고.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private static final String LAG_QUERY = "SELECT seconds FROM replica_lag";
+
+    private final String run = UUID.randomUUID().toString();
+    private final List<Connection> keepAlive = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private DataSource primary;
+    private DataSource replica1;
+    private DataSource replica2;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        primary = instance("primary");
+        replica1 = instance("replica-1");
+        replica2 = instance("replica-2");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        for (Connection connection : keepAlive) {
+            connection.close();
+        }
+    }
+
+    @Test
+    void readOnlyGoesToReplicasInTurnAndWritesStayOnPrimary() throws SQLException {
+        DataSource dataSource = routed(routing(Duration.ofSeconds(5), replica1, replica2));
+
+        assertEquals("primary", read(dataSource, false));
+        List<String> reads = List.of(read(dataSource, true), read(dataSource, true), read(dataSource, true));
+        assertEquals(List.of("replica-1", "replica-2", "replica-1"), reads);
+        assertEquals(2, routeCount("replica-1", "read-only"));
+        assertEquals(1, routeCount("replica-2", "read-only"));
+    }
+
+    @Test
+    void laggingReplicaIsSkippedUntilItCatchesUp() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5), replica1, replica2);
+        DataSource dataSource = routed(routing);
+
+        setLag(replica1, 30);
+        routing.checkLag();
+        assertEquals("replica-2", read(dataSource, true));
+        assertEquals("replica-2", read(dataSource, true));
+
+        setLag(replica1, 1);
+        routing.checkLag();
+        assertEquals(List.of("replica-1", "replica-2"), List.of(read(dataSource, true), read(dataSource, true)));
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenNoReplicaIsUsable() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5), replica1);
+        DataSource dataSource = routed(routing);
+
+        setLag(replica1, 30);
+        routing.checkLag();
+        assertEquals("primary", read(dataSource, true));
+
+        // 복제 중단 (지연 값 NULL)
+        setLag(replica1, null);
+        routing.checkLag();
+        assertEquals("primary", read(dataSource, true));
+        assertEquals(2, routeCount("primary", "fallback"));
+        assertEquals(0, meterRegistry.get("datasource.replica.available").tag("target", "replica-1").gauge().value());
+    }
+
+    @Test
+    void unreachableReplicaFallsBackToPrimary() throws SQLException {
+        DataSource missing = new DriverManagerDataSource("jdbc:unreachable://localhost/" + run, "sa", "");
+        DataSource dataSource = routed(routing(Duration.ofSeconds(5), missing));
+
+        assertEquals("primary", read(dataSource, true));
+        assertEquals(1, routeCount("primary", "fallback"));
+    }
+
+    @Test
+    void pinnedThreadReadsFromPrimary() throws SQLException {
+        DataSource dataSource = routed(routing(Duration.ofSeconds(5), replica1));
+
+        String pinned = ReplicaRouting.onPrimary(() -> readUnchecked(dataSource));
+        assertEquals("primary", pinned);
+        assertEquals("replica-1", read(dataSource, true));
+        assertEquals(1, routeCount("primary", "pinned"));
+    }
+
+    @Test
+    void explicitCredentialsAreRoutedLikeDefaultConnections() throws SQLException {
+        ReplicaRoutingDataSource routing = routing(Duration.ofSeconds(5), replica1);
+
+        try (Connection connection = routing.getConnection("sa", "")) {
+            assertEquals("replica-1", name(connection));
+        }
+        String pinned = ReplicaRouting.onPrimary(() -> {
+            try (Connection connection = routing.getConnection("sa", "")) {
+                return name(connection);
+            } catch (SQLException e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        assertEquals("primary", pinned);
+    }
+
+    private ReplicaRoutingDataSource routing(Duration maxLag, DataSource... replicas) {
+        List<ReplicaRoutingDataSource.NamedDataSource> named = new ArrayList<>();
+        for (int i = 0; i < replicas.length; i++) {
+            named.add(new ReplicaRoutingDataSource.NamedDataSource("replica-" + (i + 1), replicas[i]));
+        }
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primary, named, maxLag, LAG_QUERY, meterRegistry);
+        routing.checkLag();
+        return routing;
+    }
+
+    /** ReplicaDataSourceConfig와 같은 구성: readOnly 커넥션만 라우팅 */
+    private DataSource routed(ReplicaRoutingDataSource routing) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(primary);
+        dataSource.setReadOnlyDataSource(routing);
+        return dataSource;
+    }
+
+    private String read(DataSource dataSource, boolean readOnly) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setReadOnly(readOnly);
+            return name(connection);
+        }
+    }
+
+    private static String name(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet rs = statement.executeQuery("SELECT name FROM instance")) {
+            rs.next();
+            return rs.getString(1);
+        }
+    }
+
+    private String readUnchecked(DataSource dataSource) {
+        try {
+            return read(dataSource, true);
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private double routeCount(String target, String reason) {
+        return meterRegistry.get("datasource.route").tag("target", target).tag("reason", reason).counter().count();
+    }
+
+    private DataSource instance(String name) throws SQLException {
+        DataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + run + "-" + name, "sa", "");
+        Connection connection = dataSource.getConnection();
+        keepAlive.add(connection);
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE instance (name VARCHAR(20))");
+            statement.execute("INSERT INTO instance VALUES ('" + name + "')");
+            statement.execute("CREATE TABLE replica_lag (seconds BIGINT)");
+            statement.execute("INSERT INTO replica_lag VALUES (0)");
+        }
+        return dataSource;
+    }
+
+    private static void setLag(DataSource dataSource, Integer seconds) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("UPDATE replica_lag SET seconds = " + seconds);
+        }
+    }
+}
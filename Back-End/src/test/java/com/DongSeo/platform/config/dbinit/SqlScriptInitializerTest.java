@@ -0,0 +1,176 @@
+package com.DongSeo.platform.config.dbinit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 체크섬 기반 스크립트 초기화 테스트 (내장 H2)
+ * 시드 스크립트는 중복 실행 시 실패하는 INSERT로 두어, 다시 실행되지 않았음을 실패 여부로 확인한다.
+ */
+class SqlScriptInitializerTest {
+
+    @TempDir
+    Path dir;
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbc;
+    private Connection keepAlive;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + UUID.randomUUID() + ";MODE=MySQL", "sa", "");
+        keepAlive = dataSource.getConnection();
+        jdbc = new JdbcTemplate(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        keepAlive.close();
+    }
+
+    @Test
+    void appliesOnceAndSkipsUntilContentChanges() throws Exception {
+        write("schema.sql", "CREATE TABLE company (id BIGINT PRIMARY KEY, name VARCHAR(50));");
+        write("data.sql", "INSERT INTO company VALUES (1, '동서');\nINSERT INTO company VALUES (2, '쉐누');");
+
+        initializer(false, false).afterPropertiesSet();
+        initializer(false, false).afterPropertiesSet();
+        assertEquals(2, count("SELECT COUNT(*) FROM company"));
+        assertEquals(List.of("APPLIED", "APPLIED"), results());
+
+        write("data.sql", SqlScriptInitializer.RERUNNABLE_MARKER + "\nDELETE FROM company;\nINSERT INTO company VALUES (1, '동서');");
+        initializer(false, false).afterPropertiesSet();
+        assertEquals(1, count("SELECT COUNT(*) FROM company"));
+        assertEquals(List.of("APPLIED", "APPLIED", "APPLIED"), results());
+    }
+
+    @Test
+    void failureStopsStartupAndIsRetriedNextTime() throws Exception {
+        write("schema.sql", "CREATE TABLE company (id BIGINT PRIMARY KEY);");
+        write("data.sql", "INSERT INTO company VALUES (1);\nINSERT INTO missing_table VALUES (1);");
+
+        assertThrows(IllegalStateException.class, () -> initializer(false, false).afterPropertiesSet());
+        assertEquals(List.of("APPLIED", "FAILED"), results());
+
+        write("data.sql", "INSERT INTO company VALUES (2);");
+        initializer(false, false).afterPropertiesSet();
+        assertEquals(2, count("SELECT COUNT(*) FROM company"));
+    }
+
+    @Test
+    void changedScriptWithoutMarkerFailsBeforeRunningAnything() throws Exception {
+        write("schema.sql", "CREATE TABLE company (id BIGINT PRIMARY KEY);");
+        write("data.sql", "INSERT INTO company VALUES (1);");
+        initializer(false, false).afterPropertiesSet();
+
+        // 스키마는 다시 실행해도 되는 변경, 시드는 표시 없이 한 줄 추가
+        write("schema.sql", SqlScriptInitializer.RERUNNABLE_MARKER
+                + "\nCREATE TABLE IF NOT EXISTS company (id BIGINT PRIMARY KEY);\nCREATE TABLE color (id BIGINT PRIMARY KEY);");
+        write("data.sql", "INSERT INTO company VALUES (1);\nINSERT INTO company VALUES (2);");
+        IllegalStateException e = assertThrows(IllegalStateException.class, () -> initializer(true, false).afterPropertiesSet());
+        assertTrue(e.getMessage().contains("data:data.sql"), e.getMessage());
+
+        assertEquals(0, count("SELECT COUNT(*) FROM INFORMATION_SCHEMA.TABLES WHERE UPPER(TABLE_NAME) = 'COLOR'"));
+        assertEquals(1, count("SELECT COUNT(*) FROM company"));
+        assertEquals(List.of("APPLIED", "APPLIED"), results());
+    }
+
+    @Test
+    void continueOnErrorRecordsFailedStatements() throws Exception {
+        write("schema.sql", "CREATE TABLE company (id BIGINT PRIMARY KEY);");
+        write("data.sql", "INSERT INTO company VALUES (1);\nINSERT INTO company VALUES (1);\nINSERT INTO company VALUES (2);");
+
+        initializer(true, false).afterPropertiesSet();
+        assertEquals(2, count("SELECT COUNT(*) FROM company"));
+        assertEquals(1, count("SELECT failed_statements FROM sql_init_history WHERE script = 'data:data.sql'"));
+    }
+
+    @Test
+    void baselineRecordsChecksumsWithoutRunning() throws Exception {
+        jdbc.execute("CREATE TABLE company (id BIGINT PRIMARY KEY)");
+        jdbc.execute("INSERT INTO company VALUES (1)");
+        write("schema.sql", "CREATE TABLE company (id BIGINT PRIMARY KEY);");
+        write("data.sql", "INSERT INTO company VALUES (1);");
+
+        initializer(false, true, false).afterPropertiesSet();
+        initializer(false, false, false).afterPropertiesSet();
+        assertEquals(1, count("SELECT COUNT(*) FROM company"));
+        assertEquals(List.of("BASELINE", "BASELINE"), results());
+    }
+
+    @Test
+    void existingTablesWithoutHistoryAreBaselinedAutomatically() throws Exception {
+        // 도입 전: 기동마다 스크립트를 continue-on-error로 실행하던 DB
+        jdbc.execute("CREATE TABLE company (id BIGINT PRIMARY KEY)");
+        jdbc.execute("INSERT INTO company VALUES (1)");
+        write("schema.sql", "CREATE TABLE company (id BIGINT PRIMARY KEY);");
+        write("data.sql", "INSERT INTO company VALUES (1);");
+
+        initializer(false, false).afterPropertiesSet();
+        initializer(false, false).afterPropertiesSet();
+        assertEquals(1, count("SELECT COUNT(*) FROM company"));
+        assertEquals(List.of("BASELINE", "BASELINE"), results());
+
+        // 기준 이후 바뀐 스크립트는 (다시 실행해도 된다고 표시했으면) 실행
+        write("data.sql", SqlScriptInitializer.RERUNNABLE_MARKER + "\nINSERT IGNORE INTO company VALUES (1);\nINSERT IGNORE INTO company VALUES (2);");
+        initializer(false, false).afterPropertiesSet();
+        assertEquals(2, count("SELECT COUNT(*) FROM company"));
+    }
+
+    @Test
+    void autoBaselineOffRunsScriptsOnExistingTables() throws Exception {
+        jdbc.execute("CREATE TABLE company (id BIGINT PRIMARY KEY)");
+        write("schema.sql", "CREATE TABLE IF NOT EXISTS company (id BIGINT PRIMARY KEY);");
+        write("data.sql", "INSERT INTO company VALUES (1);");
+
+        initializer(false, false, false).afterPropertiesSet();
+        assertEquals(1, count("SELECT COUNT(*) FROM company"));
+        assertEquals(List.of("APPLIED", "APPLIED"), results());
+    }
+
+    @Test
+    void missingRequiredScriptFails() {
+        SqlScriptInitializer initializer = new SqlScriptInitializer(dataSource,
+                "file:" + dir.resolve("none.sql"), "", ";", false, false, true);
+        assertThrows(IllegalStateException.class, initializer::afterPropertiesSet);
+    }
+
+    private SqlScriptInitializer initializer(boolean continueOnError, boolean baseline) {
+        return initializer(continueOnError, baseline, true);
+    }
+
+    private SqlScriptInitializer initializer(boolean continueOnError, boolean baseline, boolean autoBaseline) {
+        return new SqlScriptInitializer(dataSource, "file:" + dir.resolve("schema.sql"),
+                "optional:file:" + dir.resolve("data.sql"), ";", continueOnError, baseline, autoBaseline);
+    }
+
+    private void write(String name, String sql) throws IOException {
+        Files.writeString(dir.resolve(name), sql, StandardCharsets.UTF_8);
+    }
+
+    private long count(String sql) {
+        return jdbc.queryForObject(sql, Long.class);
+    }
+
+    private List<String> results() {
+        return jdbc.queryForList("SELECT result FROM " + SqlScriptInitializer.HISTORY_TABLE + " ORDER BY id", String.class);
+    }
+}
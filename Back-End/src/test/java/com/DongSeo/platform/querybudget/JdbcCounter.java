@@ -0,0 +1,96 @@
+package com.DongSeo.platform.querybudget;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * JDBC 호출 수 측정용 DataSource 프록시 (테스트 전용)
+ *
+ * Hibernate와 JdbcTemplate(가격표 일괄 등록)을 모두 세기 위해 DataSource 단계에서 감싼다.
+ * - SQL 수: Statement의 execute* 호출 수 (executeBatch는 한 번으로 셈)
+ * - 조회 행 수: executeQuery / getResultSet으로 받은 ResultSet에서 next()가 true를 돌려준 횟수
+ * 테스트는 요청을 한 스레드에서 순서대로 보내므로 전역 카운터를 사용한다.
+ */
+final class JdbcCounter {
+
+    private static final AtomicLong STATEMENTS = new AtomicLong();
+    private static final AtomicLong ROWS = new AtomicLong();
+
+    private JdbcCounter() {
+    }
+
+    static DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource);
+    }
+
+    static void reset() {
+        STATEMENTS.set(0);
+        ROWS.set(0);
+    }
+
+    static long statements() {
+        return STATEMENTS.get();
+    }
+
+    static long rows() {
+        return ROWS.get();
+    }
+
+    private static <T> T proxy(Class<T> type, T target) {
+        return type.cast(Proxy.newProxyInstance(JdbcCounter.class.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    Object result = invoke(target, method, args);
+                    return intercept(target, method, result);
+                }));
+    }
+
+    private static Object intercept(Object target, Method method, Object result) {
+        String name = method.getName();
+        if (target instanceof Statement && name.startsWith("execute")) {
+            STATEMENTS.incrementAndGet();
+        }
+        if (target instanceof ResultSet && name.equals("next") && Boolean.TRUE.equals(result)) {
+            ROWS.incrementAndGet();
+        }
+        if (result == null) {
+            return null;
+        }
+        Class<?> returnType = method.getReturnType();
+        if (target instanceof DataSource && returnType == Connection.class) {
+            return proxy(Connection.class, (Connection) result);
+        }
+        if (target instanceof Connection && Statement.class.isAssignableFrom(returnType)) {
+            return proxyAs(returnType, result);
+        }
+        if (target instanceof Statement && returnType == ResultSet.class
+                && (name.equals("executeQuery") || name.equals("getResultSet"))) {
+            return proxy(ResultSet.class, (ResultSet) result);
+        }
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxyAs(Class<?> type, Object target) {
+        return proxy((Class<T>) type, (T) target);
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getCause();
+        }
+    }
+}
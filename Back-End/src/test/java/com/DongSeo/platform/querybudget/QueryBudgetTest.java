@@ -0,0 +1,248 @@
+package com.DongSeo.platform.querybudget;
+
+import com.DongSeo.platform.controller.AdminController;
+import com.DongSeo.platform.controller.EstimateController;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.request.AbstractMockHttpServletRequestBuilder;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 엔드포인트별 SQL 실행 수 / 조회 행 수 회귀 테스트
+ *
+ * 내장 H2(MySQL 모드)에 query-budget-data.sql을 넣고 EstimateController, AdminController의 모든 API를 호출해
+ * 요청 한 건의 SQL 수와 조회 행 수가 query-budgets.properties의 상한을 넘지 않는지 확인한다.
+ * - 2차 캐시는 호출마다 비워서 캐시가 없는 경우(최악)를 잰다.
+ * - 쓰기 API는 커밋 후 카탈로그 스냅샷 재구성 SQL까지 포함한다.
+ * - 케이스는 순서대로 실행된다 (읽기 → 쓰기, 삭제는 뒤쪽). 시드 데이터나 순서를 바꾸면 행 수 상한도 함께 확인할 것.
+ * 상한을 넘으면 실제 값이 실패 메시지에 나온다. 의도한 변경이면 query-budgets.properties를 고쳐 함께 커밋한다.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("query-budget")
+@Import(QueryBudgetTest.CountingDataSourceConfig.class)
+class QueryBudgetTest {
+
+    private static final String BUDGET_FILE = "query-budgets.properties";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    @Qualifier("requestMappingHandlerMapping")
+    private RequestMappingHandlerMapping handlerMapping;
+
+    @TestConfiguration
+    static class CountingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor countingDataSourcePostProcessor() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? JdbcCounter.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * 호출할 요청
+     *
+     * @param anyStatus 응답 코드를 확인하지 않음 (PDF: 한글 폰트가 없는 환경에서는 500)
+     */
+    private record EndpointCase(String name, RequestBuilder request, boolean anyStatus) {
+
+        static EndpointCase of(String name, RequestBuilder request) {
+            return new EndpointCase(name, request, false);
+        }
+
+        static EndpointCase admin(String name, AbstractMockHttpServletRequestBuilder<?> request) {
+            return new EndpointCase(name, request.with(user("admin").roles("ADMIN")), false);
+        }
+    }
+
+    private static MockHttpServletRequestBuilder json(MockHttpServletRequestBuilder request, String body) {
+        return request.contentType(MediaType.APPLICATION_JSON).content(body);
+    }
+
+    /**
+     * 시드 데이터 (query-budget-data.sql)
+     * 회사 1(동서): 문틀(FRAME) 제품 1 / 몰딩(MOLDING) 제품 3 / 창호(WINDOW) > 간살 창호 제품 2(매트릭스)
+     * 회사 2(쉐누): 도어(DOOR) 제품 4
+     */
+    private static List<EndpointCase> cases() {
+        String frameQuote = """
+                {"companyId": 1, "productId": 1, "specName": "110바", "typeName": "일반형 3방", "quantity": 2}""";
+        String windowQuote = """
+                {"companyId": 1, "productId": 2, "width": 1200, "height": 2200, "quantity": 1}""";
+        String doorQuote = """
+                {"companyId": 2, "productId": 4, "quantity": 3, "optionIds": [4]}""";
+
+        return List.of(
+                // 공개 API (카탈로그 스냅샷 / 메모리 인덱스)
+                EndpointCase.of("estimate.ping", get("/api/estimates/ping")),
+                EndpointCase.of("estimate.calculate", json(post("/api/estimates/calculate"), frameQuote)),
+                EndpointCase.of("estimate.calculateBatch", json(post("/api/estimates/calculate-batch"),
+                        "[" + frameQuote + "," + windowQuote + "," + doorQuote + "]")),
+                new EndpointCase("estimate.exportPdf", json(post("/api/estimates/export-pdf"),
+                        """
+                        {"companyName": "동서", "dateStr": "2026-01-01", "items": [], "baseTotal": 0, "totalMargin": 0, "marginPercent": "0", "totalPrice": 0}"""),
+                        true),
+                EndpointCase.of("estimate.catalog", get("/api/catalog").param("companyId", "1")),
+                EndpointCase.of("estimate.categories", get("/api/categories").param("companyId", "1")),
+                EndpointCase.of("estimate.subcategories", get("/api/subcategories").param("parentId", "3")),
+                EndpointCase.of("estimate.categoryPath", get("/api/categories/4/path")),
+                EndpointCase.of("estimate.products", get("/api/products").param("categoryId", "3")),
+                EndpointCase.of("estimate.priceCurve", get("/api/products/2/price-curve")),
+                EndpointCase.of("estimate.searchProducts", get("/api/products/search").param("keyword", "문틀")),
+                EndpointCase.of("estimate.suggestProducts", get("/api/products/suggest").param("prefix", "ㅁ")),
+                EndpointCase.of("estimate.options", get("/api/options").param("companyId", "1")),
+                EndpointCase.of("estimate.optionsForProduct", get("/api/options")
+                        .param("companyId", "1").param("productId", "2")),
+                EndpointCase.of("estimate.variants", get("/api/variants").param("productId", "1")),
+                EndpointCase.of("estimate.colors", get("/api/colors").param("companyId", "1")),
+
+                // 관리자 조회
+                EndpointCase.of("admin.companies", get("/api/admin/companies")),
+                EndpointCase.admin("admin.searchProducts", get("/api/admin/products/search").param("companyId", "1")),
+                EndpointCase.admin("admin.searchProductsByKeyword", get("/api/admin/products/search").param("keyword", "문틀")),
+
+                // 관리자 쓰기 (커밋 후 스냅샷 재구성 포함)
+                EndpointCase.admin("admin.createCategory", json(post("/api/admin/categories"), """
+                        {"companyId": 1, "name": "미서기 창호", "code": "SLIDING_WINDOW", "parentId": 3}""")),
+                EndpointCase.admin("admin.createProduct", json(post("/api/admin/products"), """
+                        {"companyId": 1, "categoryId": 1, "name": "문틀 130바", "specName": "150바", "typeName": "일반형 3방", "variantPrice": 60000}""")),
+                EndpointCase.admin("admin.updateProduct", json(put("/api/admin/products/1"), """
+                        {"description": "PVC 발포 문틀"}""")),
+                EndpointCase.admin("admin.updateVariant", json(put("/api/admin/products/variants/1"), """
+                        {"price": 46000}""")),
+                EndpointCase.admin("admin.deleteVariant", delete("/api/admin/products/variants/4")),
+                EndpointCase.admin("admin.deleteProduct", delete("/api/admin/products/3")),
+                EndpointCase.admin("admin.createCompany", json(post("/api/admin/companies"), """
+                        {"name": "테스트 회사", "code": "TEST"}""")),
+                EndpointCase.admin("admin.importVariants", multipart("/api/admin/import/variants")
+                        .file(new MockMultipartFile("file", "variants.csv", "text/csv",
+                                "productId,specName,typeName,price,note\n1,150바,일반형 3방,61000,\n"
+                                        .getBytes(StandardCharsets.UTF_8))))
+        );
+    }
+
+    @TestFactory
+    Stream<DynamicTest> endpointsStayWithinQueryBudget() throws IOException {
+        Properties budgets = loadBudgets();
+        List<EndpointCase> cases = cases();
+
+        Set<String> caseNames = cases.stream().map(EndpointCase::name).collect(Collectors.toCollection(TreeSet::new));
+        Set<String> budgetNames = new TreeSet<>(budgets.stringPropertyNames());
+        Set<String> coveredHandlers = new TreeSet<>();
+
+        List<DynamicTest> tests = new ArrayList<>();
+        tests.add(DynamicTest.dynamicTest("상한 파일과 케이스 목록 일치", () ->
+                assertEquals(caseNames, budgetNames, BUDGET_FILE + "의 키와 케이스 이름이 다릅니다.")));
+        for (EndpointCase endpointCase : cases) {
+            tests.add(DynamicTest.dynamicTest(endpointCase.name(), () ->
+                    coveredHandlers.add(run(endpointCase, budgets.getProperty(endpointCase.name())))));
+        }
+        tests.add(DynamicTest.dynamicTest("모든 API 호출 여부", () -> {
+            Set<String> handlers = handlerMapping.getHandlerMethods().values().stream()
+                    .filter(h -> h.getBeanType() == EstimateController.class || h.getBeanType() == AdminController.class)
+                    .map(QueryBudgetTest::handlerName)
+                    .collect(Collectors.toCollection(TreeSet::new));
+            handlers.removeAll(coveredHandlers);
+            assertTrue(handlers.isEmpty(), "상한 테스트가 없는 API: " + handlers);
+        }));
+        return tests.stream();
+    }
+
+    /**
+     * 요청 한 건 실행 후 상한 확인
+     *
+     * @return 호출된 컨트롤러 메서드 (Class.method)
+     */
+    private String run(EndpointCase endpointCase, String budget) throws Exception {
+        assertNotNull(budget, endpointCase.name() + "의 상한이 " + BUDGET_FILE + "에 없습니다.");
+        String[] limits = budget.split(",");
+        long maxStatements = Long.parseLong(limits[0].trim());
+        long maxRows = Long.parseLong(limits[1].trim());
+
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+        JdbcCounter.reset();
+        MvcResult result = mockMvc.perform(endpointCase.request()).andReturn();
+        long statements = JdbcCounter.statements();
+        long rows = JdbcCounter.rows();
+
+        int status = result.getResponse().getStatus();
+        if (!endpointCase.anyStatus() && (status < 200 || status >= 300)) {
+            fail(endpointCase.name() + " 응답 코드 " + status + ": " + result.getResponse().getContentAsString(StandardCharsets.UTF_8));
+        }
+        String actual = " (실제 SQL " + statements + "회, 조회 행 " + rows + ")";
+        assertTrue(statements <= maxStatements,
+                endpointCase.name() + ": SQL 수가 상한 " + maxStatements + "을 넘었습니다" + actual);
+        assertTrue(rows <= maxRows,
+                endpointCase.name() + ": 조회 행 수가 상한 " + maxRows + "을 넘었습니다" + actual);
+
+        if (!(result.getHandler() instanceof HandlerMethod handler)) {
+            return fail(endpointCase.name() + "는 컨트롤러 메서드로 처리되지 않았습니다.");
+        }
+        return handlerName(handler);
+    }
+
+    private static String handlerName(HandlerMethod handler) {
+        return handler.getBeanType().getSimpleName() + "." + handler.getMethod().getName();
+    }
+
+    private static Properties loadBudgets() throws IOException {
+        Properties budgets = new Properties();
+        try (Reader reader = new InputStreamReader(new ClassPathResource(BUDGET_FILE).getInputStream(), StandardCharsets.UTF_8)) {
+            budgets.load(reader);
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,90 @@
+package com.DongSeo.platform.service.calculator;
+
+import com.DongSeo.platform.dto.EstimateRequest;
+import com.DongSeo.platform.service.catalog.CatalogCategory;
+import com.DongSeo.platform.service.catalog.CatalogCompany;
+import com.DongSeo.platform.service.catalog.CatalogMatrixRow;
+import com.DongSeo.platform.service.catalog.CatalogProduct;
+import com.DongSeo.platform.service.catalog.CatalogSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 가격 매트릭스 가로×세로 조회 테스트
+ *
+ * 목창호 제품 하나에 가로 1000/1500, 세로 2100/2400 구간을 두고 (1500 구간은 세로 2100까지만)
+ * 세로가 가로 구간 안에서만 찾아지는지 확인한다.
+ */
+class MatrixCalculatorTest {
+
+    private static final String OPTION = "미닫이 (80바)";
+
+    private final MatrixCalculator calculator = new MatrixCalculator();
+    private final CatalogProduct window = new CatalogProduct(1L, 1L, 2L, "목창호", 0, null, null);
+    private final CatalogSnapshot catalog = CatalogSnapshot.of(1L,
+            List.of(new CatalogCompany(1L, "동서", "DS")),
+            List.of(new CatalogCategory(1L, 1L, null, "창호", "WINDOW"),
+                    new CatalogCategory(2L, 1L, 1L, "목창호", "WOOD_WINDOW")),
+            List.of(window),
+            List.of(),
+            List.of(new CatalogMatrixRow(1L, 1L, OPTION, 1000, 2100, 800000),
+                    new CatalogMatrixRow(2L, 1L, OPTION, 1000, 2400, 850000),
+                    new CatalogMatrixRow(3L, 1L, OPTION, 1500, 2100, 950000)),
+            List.of());
+
+    @Test
+    void heightPicksRowWithinWidthBand() {
+        assertEquals(800000, price(900, 2000));
+        assertEquals(800000, price(1000, 2100));
+        assertEquals(850000, price(1000, 2200));
+        assertEquals(950000, price(1200, 2100));
+    }
+
+    @Test
+    void widthOnlyUsesLowestHeightRowOfBand() {
+        assertEquals(800000, price(1000, null));
+        assertEquals(950000, price(1500, null));
+    }
+
+    @Test
+    void heightOverBandDoesNotMoveToWiderBand() {
+        // 1000 구간의 2400을 넘는 세로는 1500 구간으로 넘어가지 않고 세로 초과
+        IllegalArgumentException tall = assertThrows(IllegalArgumentException.class, () -> price(1000, 2500));
+        assertTrue(tall.getMessage().startsWith("세로 초과"), tall.getMessage());
+        // 1500 구간에는 세로 2100까지만 있음
+        IllegalArgumentException wide = assertThrows(IllegalArgumentException.class, () -> price(1200, 2200));
+        assertTrue(wide.getMessage().contains("2100mm"), wide.getMessage());
+        assertNull(calculator.pricingKey(catalog, window, request(1200, 2200)));
+    }
+
+    @Test
+    void widthOverEveryBandIsNotFound() {
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class, () -> price(1600, 2000));
+        assertTrue(e.getMessage().contains("가격표가 없습니다"), e.getMessage());
+    }
+
+    @Test
+    void sameRowSharesPricingKey() {
+        assertEquals(calculator.pricingKey(catalog, window, request(1001, 2000)),
+                calculator.pricingKey(catalog, window, request(1500, 2100)));
+    }
+
+    private int price(int width, Integer height) {
+        return calculator.calculateBasePrice(catalog, window, request(width, height));
+    }
+
+    private static EstimateRequest request(int width, Integer height) {
+        EstimateRequest request = new EstimateRequest();
+        request.setProductId(1L);
+        request.setWidth(width);
+        request.setHeight(height);
+        request.setTypeName(OPTION);
+        return request;
+    }
+}
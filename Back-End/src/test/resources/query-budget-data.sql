@@ -0,0 +1,35 @@
+-- QueryBudgetTest 시드 데이터 (id는 입력 순서대로 1부터)
+-- 행 수를 바꾸면 query-budgets.properties의 조회 행 수 상한도 함께 확인할 것
+
+INSERT INTO companies (name, code, created_at) VALUES ('동서', 'DONGSEO', CURRENT_TIMESTAMP);
+INSERT INTO companies (name, code, created_at) VALUES ('쉐누', 'CHENOUS', CURRENT_TIMESTAMP);
+
+INSERT INTO categories (company_id, name, code, parent_id) VALUES (1, '문틀', 'FRAME', NULL);
+INSERT INTO categories (company_id, name, code, parent_id) VALUES (1, '몰딩', 'MOLDING', NULL);
+INSERT INTO categories (company_id, name, code, parent_id) VALUES (1, '창호', 'WINDOW', NULL);
+INSERT INTO categories (company_id, name, code, parent_id) VALUES (1, '간살 창호', 'GANSAL_WINDOW', 3);
+INSERT INTO categories (company_id, name, code, parent_id) VALUES (2, '도어', 'DOOR', NULL);
+
+INSERT INTO products (company_id, category_id, name, base_price, description, size) VALUES (1, 1, '문틀 110바', 0, 'PVC 발포', NULL);
+INSERT INTO products (company_id, category_id, name, base_price, description, size) VALUES (1, 4, '간살 목창호', 0, NULL, NULL);
+INSERT INTO products (company_id, category_id, name, base_price, description, size) VALUES (1, 2, '평몰딩', 0, NULL, NULL);
+INSERT INTO products (company_id, category_id, name, base_price, description, size) VALUES (2, 5, 'ABS 도어', 150000, NULL, '900 × 2100mm');
+
+INSERT INTO product_variants (product_id, spec_name, type_name, price, note) VALUES (1, '110바', '일반형 3방', 45000, NULL);
+INSERT INTO product_variants (product_id, spec_name, type_name, price, note) VALUES (1, '130바', '일반형 3방', 52000, NULL);
+INSERT INTO product_variants (product_id, spec_name, type_name, price, note) VALUES (3, '30mm', '', 3000, NULL);
+INSERT INTO product_variants (product_id, spec_name, type_name, price, note) VALUES (3, '40mm', '', 4000, NULL);
+
+INSERT INTO price_matrix (product_id, option_name, max_width, max_height, price) VALUES (2, '미닫이 (80바)', 1000, 2100, 800000);
+INSERT INTO price_matrix (product_id, option_name, max_width, max_height, price) VALUES (2, '미닫이 (80바)', 1500, 2100, 950000);
+INSERT INTO price_matrix (product_id, option_name, max_width, max_height, price) VALUES (2, '미닫이 (80바)', 1000, 2400, 850000);
+INSERT INTO price_matrix (product_id, option_name, max_width, max_height, price) VALUES (2, '미닫이 (80바)', 1500, 2400, 1000000);
+
+INSERT INTO options (company_id, category_id, product_id, name, add_price) VALUES (1, NULL, NULL, '필름 추가', 10000);
+INSERT INTO options (company_id, category_id, product_id, name, add_price) VALUES (1, 3, NULL, '방충망', 30000);
+INSERT INTO options (company_id, category_id, product_id, name, add_price) VALUES (1, 4, 2, '손잡이 추가', 20000);
+INSERT INTO options (company_id, category_id, product_id, name, add_price) VALUES (2, 5, NULL, '도어락', 80000);
+
+INSERT INTO colors (company_id, name, color_code, cost, created_at) VALUES (1, '화이트', '#FFFFFF', 0.00, CURRENT_TIMESTAMP);
+INSERT INTO colors (company_id, name, color_code, cost, created_at) VALUES (1, '월넛', '#5C4033', 0.10, CURRENT_TIMESTAMP);
+INSERT INTO colors (company_id, name, color_code, cost, created_at) VALUES (2, '오크', '#C8A165', 0.05, CURRENT_TIMESTAMP);
@@ -50,6 +50,13 @@ export interface AdminProductSearchItem {
   variants: { id: number; specName: string; typeName: string; price: number }[];
 }
 
+/** 관리자 제품 검색 페이지 (nextCursor를 그대로 cursor로 넘기면 다음 페이지, 마지막 페이지면 null) */
+export interface AdminProductSearchPage {
+  items: AdminProductSearchItem[];
+  nextCursor: string | null;
+  size: number;
+}
+
 export async function fetchAdminCompanies(): Promise<CompanyDto[]> {
   const res = await fetch(`${API_BASE_URL}/admin/companies`, { method: "GET", headers: headers() });
   if (!res.ok) throw new Error(res.status === 403 ? "권한이 없습니다." : `회사 목록 조회 실패 (${res.status})`);
@@ -104,11 +111,15 @@ export async function searchAdminProducts(params: {
   keyword?: string;
   companyId?: number;
   categoryId?: number;
-}): Promise<AdminProductSearchItem[]> {
+  cursor?: string | null;
+  size?: number;
+}): Promise<AdminProductSearchPage> {
   const sp = new URLSearchParams();
   if (params.keyword != null && params.keyword !== "") sp.set("keyword", params.keyword);
   if (params.companyId != null) sp.set("companyId", String(params.companyId));
   if (params.categoryId != null) sp.set("categoryId", String(params.categoryId));
+  if (params.cursor != null) sp.set("cursor", params.cursor);
+  if (params.size != null) sp.set("size", String(params.size));
   const q = sp.toString();
   const url = `${API_BASE_URL}/admin/products/search${q ? `?${q}` : ""}`;
   const res = await fetch(url, { method: "GET", headers: headers() });
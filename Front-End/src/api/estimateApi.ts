@@ -253,6 +253,34 @@ export async function fetchColors(companyId: number = 1): Promise<Color[]> {
   }
 }
 
+export interface CatalogCategoryNode extends Category {
+  children: CatalogCategoryNode[];
+}
+
+export interface CatalogBootstrap {
+  companyId: number;
+  companyName: string;
+  companyCode: string;
+  version: number;
+  categories: CatalogCategoryNode[];
+  products: Product[];
+  variants: Record<number, ProductVariant[]>;
+  options: Option[];
+  productOptionIds: Record<number, number[]>;
+  colors: Color[];
+}
+
+// 회사별 카탈로그 전체 조회 (카테고리 트리, 제품, 규격, 옵션, 색상을 한 번에)
+export async function fetchCatalog(companyId: number = 1): Promise<CatalogBootstrap> {
+  const url = `${API_BASE_URL}/catalog?companyId=${companyId}`;
+  const response = await fetch(url, { method: 'GET', headers: headers() });
+  if (!response.ok) {
+    const errorText = await response.text();
+    throw new Error(`카탈로그 조회 실패 (${response.status}): ${errorText}`);
+  }
+  return response.json();
+}
+
 // 견적 계산
 export async function calculateEstimate(request: EstimateRequest): Promise<EstimateResponse> {
   const response = await fetch(`${API_BASE_URL}/estimates/calculate`, {
@@ -666,63 +666,8 @@ export function CalculatorTab() {
         }
       }
       
-      // 간살 목창호인 경우 특별 계산 규칙 적용
+      // 간살 목창호의 높이 2101 이상 추가 비용은 백엔드 가격 매트릭스의 세로 구간(max_height) 가격에 포함됨
       let priceIncreaseInfo: { rate: number; reason: string } | null = null;
-      if (isGansalWindow && width && height && typeName) {
-        const widthNum = parseInt(width);
-        const heightNum = parseInt(height);
-        let additionalAmount = 0;
-        const reasons: string[] = [];
-        
-        if (heightNum >= 2101 && widthNum > 0) {
-          const isMidari = typeName.includes("미닫이");
-          const isYeodari = typeName.includes("여닫이");
-          
-          if (isMidari) {
-            // 미닫이(80바): 350, 386, 461, 561, 651 → +20,000
-            if ([350, 386, 461, 561, 651].includes(widthNum)) {
-              additionalAmount = 20000;
-              reasons.push(`높이 ${heightNum}mm, 가로폭 ${widthNum}mm (+20,000원)`);
-            }
-            // 미닫이(80바): 751, 851, 951, 1041 → +25,000
-            else if ([751, 851, 951, 1041].includes(widthNum)) {
-              additionalAmount = 25000;
-              reasons.push(`높이 ${heightNum}mm, 가로폭 ${widthNum}mm (+25,000원)`);
-            }
-          } else if (isYeodari) {
-            // 여닫이(120바): 430, 456, 541, 631, 731 → +20,000
-            if ([430, 456, 541, 631, 731].includes(widthNum)) {
-              additionalAmount = 20000;
-              reasons.push(`높이 ${heightNum}mm, 가로폭 ${widthNum}mm (+20,000원)`);
-            }
-            // 여닫이(120바): 831, 931, 1031, 1131 → +25,000
-            else if ([831, 931, 1031, 1131].includes(widthNum)) {
-              additionalAmount = 25000;
-              reasons.push(`높이 ${heightNum}mm, 가로폭 ${widthNum}mm (+25,000원)`);
-            }
-          }
-        }
-        
-        if (additionalAmount > 0) {
-          // unitPrice에 추가 금액 적용
-          const increasedUnitPrice = extendedResponse.unitPrice + additionalAmount;
-          
-          // totalPrice 재계산 (인상된 unitPrice + optionPrice) * quantity
-          const newTotalPrice = (increasedUnitPrice + extendedResponse.optionPrice) * extendedResponse.quantity;
-          
-          priceIncreaseInfo = {
-            rate: 0, // 고정 금액이므로 rate는 사용하지 않음
-            reason: `간살 목창호 추가 비용 (${reasons.join(", ")})`,
-          };
-          
-          extendedResponse = {
-            ...extendedResponse,
-            unitPrice: increasedUnitPrice,
-            totalPrice: newTotalPrice,
-            priceIncreaseInfo: priceIncreaseInfo,
-          };
-        }
-      }
       
       // 슬림문틀인 경우 특별 계산 규칙 적용 (간살 목창호가 아닌 경우에만)
       if (!isGansalWindow && isSlimFrame && width && height && specName) {
@@ -792,7 +737,6 @@ export function CalculatorTab() {
       // 일반 목창호인 경우 특별 계산 규칙 적용
       else if (categoryCode === "WINDOW" && !isGansalWindow && width && height) {
         const widthNum = parseInt(width);
-        const heightNum = parseInt(height);
         let additionalAmount = 0;
         const reasons: string[] = [];
         
@@ -802,11 +746,7 @@ export function CalculatorTab() {
           reasons.push(`폭 ${widthNum}mm (+5,000원)`);
         }
         
-        // 높이 2101 이상일 때 +10,000원
-        if (heightNum >= 2101) {
-          additionalAmount += 10000;
-          reasons.push(`높이 ${heightNum}mm (+10,000원)`);
-        }
+        // 높이 추가 비용은 백엔드 가격 매트릭스의 세로 구간(max_height) 가격에 포함됨
         
         if (additionalAmount > 0) {
           // unitPrice에 추가 금액 적용
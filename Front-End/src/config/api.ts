@@ -30,29 +30,41 @@ if (import.meta.env.PROD && typeof window !== "undefined") {
 export const isDevelopment = import.meta.env.DEV;
 export const isProduction = import.meta.env.PROD;
 
+const FONT_NAME = "NanumGothic-normal.js";
+
+/** 백엔드 루트 URL: API_BASE_URL에서 /api 제거 (예: "http://localhost:8080/api" -> "http://localhost:8080", "/api" -> "") */
+const backendRootUrl = (): string => {
+  const baseUrl = API_BASE_URL.replace(/\/api\/?$/, "");
+  // 프로덕션에서 /api만 있는 경우 같은 도메인 (Vercel rewrites를 통해 백엔드로 프록시)
+  return baseUrl === "/" ? "" : baseUrl;
+};
+
+let fontUrlPromise: Promise<string> | null = null;
+
 /**
  * NanumGothic 폰트 파일 URL
- * 백엔드 서버에서 제공하는 폰트 파일을 사용
+ * 백엔드 /api/assets 매니페스트의 지문 URL(/NanumGothic-normal.{지문}.js, 1년 캐시)을 사용하고,
+ * 매니페스트를 못 받으면 지문 없는 URL(/NanumGothic-normal.js, 1시간 캐시 후 재검증)로 대신한다.
+ * 매니페스트는 페이지당 한 번만 요청한다.
  */
-export const getFontUrl = (): string => {
-  // API_BASE_URL에서 /api를 제거하고 루트 경로로 변경
-  // 예: "http://localhost:8080/api" -> "http://localhost:8080"
-  // 예: "/api" -> "" (같은 도메인)
-  let baseUrl = API_BASE_URL.replace(/\/api\/?$/, "");
-  
-  // 프로덕션에서 /api만 있는 경우 (프록시 사용)
-  if (baseUrl === "" || baseUrl === "/") {
-    // 같은 도메인에서 제공 (Vercel rewrites를 통해 백엔드로 프록시)
-    baseUrl = "";
-  }
-  
-  const fontUrl = `${baseUrl}/NanumGothic-normal.js`;
-  
-  // 디버깅용 로그
-  if (typeof window !== "undefined") {
-    // eslint-disable-next-line no-console
-    console.log("[getFontUrl] API_BASE_URL:", API_BASE_URL, "→ fontUrl:", fontUrl);
-  }
-  
-  return fontUrl;
+export const getFontUrl = (): Promise<string> => {
+  if (fontUrlPromise) return fontUrlPromise;
+  const baseUrl = backendRootUrl();
+  const fallback = `${baseUrl}/${FONT_NAME}`;
+  fontUrlPromise = fetch(`${API_BASE_URL}/assets`)
+    .then((res) => (res.ok ? res.json() : {}))
+    .then((manifest: Record<string, string>) => {
+      const path = manifest[FONT_NAME];
+      return path ? `${baseUrl}${path}` : fallback;
+    })
+    .catch(() => fallback)
+    .then((fontUrl) => {
+      // 디버깅용 로그
+      if (typeof window !== "undefined") {
+        // eslint-disable-next-line no-console
+        console.log("[getFontUrl] API_BASE_URL:", API_BASE_URL, "→ fontUrl:", fontUrl);
+      }
+      return fontUrl;
+    });
+  return fontUrlPromise;
 };
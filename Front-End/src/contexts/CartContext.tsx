@@ -96,7 +96,7 @@ export function CartProvider({ children }: { children: React.ReactNode }) {
 
       let fontLoaded = false;
       try {
-        const fontUrl = getFontUrl();
+        const fontUrl = await getFontUrl();
         const fontResponse = await fetch(fontUrl);
         if (fontResponse.ok) {
           const fontText = await fontResponse.text();